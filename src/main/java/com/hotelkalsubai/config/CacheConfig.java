@@ -0,0 +1,31 @@
+package com.hotelkalsubai.config;
+
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String ROOMS = "rooms";
+    public static final String MENU = "menu";
+    public static final String GALLERY = "gallery";
+    public static final String BLOG = "blog";
+    public static final String CONTACT = "contact";
+    public static final String FEEDBACK = "feedback";
+
+    @Value("${app.cache.spec:maximumSize=500,expireAfterWrite=30m,recordStats}")
+    private String cacheSpec;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(ROOMS, MENU, GALLERY, BLOG, CONTACT, FEEDBACK);
+        cacheManager.setCaffeineSpec(CaffeineSpec.parse(cacheSpec));
+        return cacheManager;
+    }
+}
\ No newline at end of file
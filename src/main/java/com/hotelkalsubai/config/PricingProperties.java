@@ -0,0 +1,71 @@
+package com.hotelkalsubai.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.pricing")
+public class PricingProperties {
+
+    private int horizonDays = 400;
+    private int maxStayNights = 30;
+    private int weekendUpliftPercent = 0;
+    private List<DayOfWeek> weekendDays = new ArrayList<>(List.of(DayOfWeek.FRIDAY, DayOfWeek.SATURDAY));
+    private List<Season> seasons = new ArrayList<>();
+    private List<StayDiscount> stayDiscounts = new ArrayList<>();
+
+    // Getters and Setters
+    public int getHorizonDays() { return horizonDays; }
+    public void setHorizonDays(int horizonDays) { this.horizonDays = horizonDays; }
+
+    public int getMaxStayNights() { return maxStayNights; }
+    public void setMaxStayNights(int maxStayNights) { this.maxStayNights = maxStayNights; }
+
+    public int getWeekendUpliftPercent() { return weekendUpliftPercent; }
+    public void setWeekendUpliftPercent(int weekendUpliftPercent) { this.weekendUpliftPercent = weekendUpliftPercent; }
+
+    public List<DayOfWeek> getWeekendDays() { return weekendDays; }
+    public void setWeekendDays(List<DayOfWeek> weekendDays) { this.weekendDays = weekendDays; }
+
+    public List<Season> getSeasons() { return seasons; }
+    public void setSeasons(List<Season> seasons) { this.seasons = seasons; }
+
+    public List<StayDiscount> getStayDiscounts() { return stayDiscounts; }
+    public void setStayDiscounts(List<StayDiscount> stayDiscounts) { this.stayDiscounts = stayDiscounts; }
+
+    public static class Season {
+        private String name;
+        private String start; // MM-dd, inclusive
+        private String end;   // MM-dd, inclusive; may wrap past the year end
+        private int adjustmentPercent;
+
+        // Getters and Setters
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+
+        public String getStart() { return start; }
+        public void setStart(String start) { this.start = start; }
+
+        public String getEnd() { return end; }
+        public void setEnd(String end) { this.end = end; }
+
+        public int getAdjustmentPercent() { return adjustmentPercent; }
+        public void setAdjustmentPercent(int adjustmentPercent) { this.adjustmentPercent = adjustmentPercent; }
+    }
+
+    public static class StayDiscount {
+        private int minNights;
+        private int discountPercent;
+
+        // Getters and Setters
+        public int getMinNights() { return minNights; }
+        public void setMinNights(int minNights) { this.minNights = minNights; }
+
+        public int getDiscountPercent() { return discountPercent; }
+        public void setDiscountPercent(int discountPercent) { this.discountPercent = discountPercent; }
+    }
+}
\ No newline at end of file
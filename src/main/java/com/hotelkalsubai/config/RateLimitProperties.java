@@ -0,0 +1,94 @@
+package com.hotelkalsubai.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private long maxKeys = 100_000;
+    private Duration idleTimeout = Duration.ofMinutes(15);
+    private boolean trustForwardedFor = false;
+    private int trustedProxyHops = 1; // proxies in front that each append to X-Forwarded-For
+    private int maxBodyBytes = 16_384;
+    private List<Rule> rules = new ArrayList<>(List.of(
+            new Rule("login", "POST", "/api/auth/login", "email", 20, 5, Duration.ofMinutes(1)),
+            new Rule("request-otp", "POST", "/api/auth/request-otp", "phoneNumber", 10, 3, Duration.ofMinutes(10)),
+            new Rule("verify-otp", "POST", "/api/auth/verify-otp", "phoneNumber", 10, 5, Duration.ofMinutes(10)),
+            new Rule("reset-password", "POST", "/api/auth/reset-password", null, 10, 0, Duration.ofMinutes(10)),
+            new Rule("forgot-password", "POST", "/api/auth/forgot-password", "email", 10, 3, Duration.ofMinutes(10)),
+            new Rule("booking", "POST", "/api/booking", "guestEmail", 30, 10, Duration.ofMinutes(1)),
+            new Rule("booking-hold", "POST", "/api/booking/holds", null, 10, 0, Duration.ofMinutes(1))));
+
+    // Getters and Setters
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public long getMaxKeys() { return maxKeys; }
+    public void setMaxKeys(long maxKeys) { this.maxKeys = maxKeys; }
+
+    public Duration getIdleTimeout() { return idleTimeout; }
+    public void setIdleTimeout(Duration idleTimeout) { this.idleTimeout = idleTimeout; }
+
+    public boolean isTrustForwardedFor() { return trustForwardedFor; }
+    public void setTrustForwardedFor(boolean trustForwardedFor) { this.trustForwardedFor = trustForwardedFor; }
+
+    public int getTrustedProxyHops() { return trustedProxyHops; }
+    public void setTrustedProxyHops(int trustedProxyHops) { this.trustedProxyHops = trustedProxyHops; }
+
+    public int getMaxBodyBytes() { return maxBodyBytes; }
+    public void setMaxBodyBytes(int maxBodyBytes) { this.maxBodyBytes = maxBodyBytes; }
+
+    public List<Rule> getRules() { return rules; }
+    public void setRules(List<Rule> rules) { this.rules = rules; }
+
+    public static class Rule {
+        private String name;
+        private String method;
+        private String path;         // exact servlet path
+        private String accountField; // JSON body field identifying the account, optional
+        private int ipLimit;         // requests per period per client address, 0 = unlimited
+        private int accountLimit;    // requests per period per account, 0 = unlimited
+        private Duration period = Duration.ofMinutes(1);
+
+        public Rule() {}
+
+        public Rule(String name, String method, String path, String accountField, int ipLimit, int accountLimit, Duration period) {
+            this.name = name;
+            this.method = method;
+            this.path = path;
+            this.accountField = accountField;
+            this.ipLimit = ipLimit;
+            this.accountLimit = accountLimit;
+            this.period = period;
+        }
+
+        // Getters and Setters
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+
+        public String getMethod() { return method; }
+        public void setMethod(String method) { this.method = method; }
+
+        public String getPath() { return path; }
+        public void setPath(String path) { this.path = path; }
+
+        public String getAccountField() { return accountField; }
+        public void setAccountField(String accountField) { this.accountField = accountField; }
+
+        public int getIpLimit() { return ipLimit; }
+        public void setIpLimit(int ipLimit) { this.ipLimit = ipLimit; }
+
+        public int getAccountLimit() { return accountLimit; }
+        public void setAccountLimit(int accountLimit) { this.accountLimit = accountLimit; }
+
+        public Duration getPeriod() { return period; }
+        public void setPeriod(Duration period) { this.period = period; }
+    }
+}
\ No newline at end of file
@@ -2,8 +2,11 @@ package com.hotelkalsubai.config;
 
 import com.hotelkalsubai.security.AuthEntryPointJwt;
 import com.hotelkalsubai.security.AuthTokenFilter;
+import com.hotelkalsubai.security.PooledPasswordEncoder;
+import com.hotelkalsubai.security.RateLimitFilter;
 import com.hotelkalsubai.security.UserDetailsServiceImpl;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -14,7 +17,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
@@ -29,16 +31,32 @@ public class SecurityConfig {
     @Autowired
     private AuthEntryPointJwt unauthorizedHandler;
 
+    @Value("${app.security.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    @Value("${app.security.hashing-threads:2}")
+    private int hashingThreads;
+
+    @Value("${app.security.hashing-queue:16}")
+    private int hashingQueue;
+
     @Bean
     public AuthTokenFilter authenticationJwtTokenFilter() {
         return new AuthTokenFilter();
     }
 
+    @Bean
+    public RateLimitFilter rateLimitFilter() {
+        return new RateLimitFilter();
+    }
+
     @Bean
     public DaoAuthenticationProvider authenticationProvider() {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder());
+        // Rehashes a password on successful login when it was stored with a lower BCrypt strength
+        authProvider.setUserDetailsPasswordService(userDetailsService);
         return authProvider;
     }
 
@@ -47,9 +65,9 @@ public class SecurityConfig {
         return authConfig.getAuthenticationManager();
     }
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    @Bean(destroyMethod = "shutdown")
+    public PooledPasswordEncoder passwordEncoder() {
+        return new PooledPasswordEncoder(new BCryptPasswordEncoder(bcryptStrength), hashingThreads, hashingQueue);
     }
 
     @Bean
@@ -87,6 +105,7 @@ public class SecurityConfig {
 
         http.authenticationProvider(authenticationProvider());
         http.addFilterBefore(authenticationJwtTokenFilter(), UsernamePasswordAuthenticationFilter.class);
+        http.addFilterBefore(rateLimitFilter(), AuthTokenFilter.class);
 
         return http.build();
     }
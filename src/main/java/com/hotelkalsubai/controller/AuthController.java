@@ -3,6 +3,7 @@ package com.hotelkalsubai.controller;
 import com.hotelkalsubai.dto.ApiResponse;
 import com.hotelkalsubai.dto.auth.*;
 import com.hotelkalsubai.entity.User;
+import com.hotelkalsubai.exception.PasswordHashingBusyException;
 import com.hotelkalsubai.security.JwtUtils;
 import com.hotelkalsubai.security.UserDetailsImpl;
 import com.hotelkalsubai.service.AuthService;
@@ -62,6 +63,8 @@ public class AuthController {
                     roles);
 
             return ResponseEntity.ok(ApiResponse.success("Login successful", jwtResponse));
+        } catch (PasswordHashingBusyException e) {
+            throw e;
         } catch (Exception e) {
             return ResponseEntity.badRequest()
                     .body(ApiResponse.error("Invalid credentials"));
@@ -101,6 +104,8 @@ public class AuthController {
         try {
             authService.resetPassword(request.getToken(), request.getNewPassword());
             return ResponseEntity.ok(ApiResponse.success("Password reset successfully"));
+        } catch (PasswordHashingBusyException e) {
+            throw e;
         } catch (Exception e) {
             return ResponseEntity.badRequest()
                     .body(ApiResponse.error(e.getMessage()));
@@ -137,6 +142,8 @@ public class AuthController {
         try {
             authService.verifyOtpForPasswordReset(request.getPhoneNumber(), request.getOtpCode(), request.getNewPassword());
             return ResponseEntity.ok(ApiResponse.success("Password reset successfully using OTP"));
+        } catch (PasswordHashingBusyException e) {
+            throw e;
         } catch (Exception e) {
             return ResponseEntity.badRequest()
                     .body(ApiResponse.error(e.getMessage()));
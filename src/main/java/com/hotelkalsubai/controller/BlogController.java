@@ -1,15 +1,18 @@
 package com.hotelkalsubai.controller;
 
 import com.hotelkalsubai.dto.ApiResponse;
+import com.hotelkalsubai.dto.CatalogStamp;
+import com.hotelkalsubai.dto.CursorPage;
+import com.hotelkalsubai.dto.blog.BlogSearchResult;
 import com.hotelkalsubai.entity.BlogPost;
 import com.hotelkalsubai.service.BlogService;
+import com.hotelkalsubai.service.ResponseSnapshots;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 @CrossOrigin(origins = "*", maxAge = 3600)
 @RestController
@@ -20,25 +23,57 @@ public class BlogController {
     @Autowired
     private BlogService blogService;
 
+    @Autowired
+    private ResponseSnapshots responseSnapshots;
+
     @GetMapping
-    @Operation(summary = "Get all published blog posts", description = "Retrieve all published blog posts")
-    public ResponseEntity<?> getAllPublishedPosts() {
-        List<BlogPost> posts = blogService.getAllPublishedPosts();
+    @Operation(summary = "Get all published blog posts", description = "Retrieve published blog posts newest first, one page at a time (pass nextCursor to continue)")
+    public ResponseEntity<?> getAllPublishedPosts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT_PARAM) int limit,
+            WebRequest webRequest) {
+        CatalogStamp stamp = blogService.getCatalogStamp();
+        if (webRequest.checkNotModified(stamp.getETag(), stamp.getLastModifiedMillis())) {
+            return null;
+        }
+        if (responseSnapshots.isEnabled() && cursor == null && limit == CursorPage.DEFAULT_LIMIT) {
+            return responseSnapshots.toResponse(blogService.getBlogSnapshot(), webRequest);
+        }
+        CursorPage<BlogPost> posts = blogService.getPublishedPostsPage(cursor, limit);
         return ResponseEntity.ok(ApiResponse.success("Blog posts retrieved successfully", posts));
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get blog post by ID", description = "Retrieve a specific blog post by its ID")
-    public ResponseEntity<?> getPostById(@PathVariable Long id) {
+    public ResponseEntity<?> getPostById(@PathVariable Long id, WebRequest webRequest) {
+        CatalogStamp stamp = blogService.getCatalogStamp();
+        if (webRequest.checkNotModified(stamp.getETag(), stamp.getLastModifiedMillis())) {
+            return null;
+        }
         return blogService.getPostById(id)
                 .map(post -> ResponseEntity.ok(ApiResponse.success("Blog post found", post)))
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @GetMapping("/search")
-    @Operation(summary = "Search blog posts", description = "Search blog posts by title")
-    public ResponseEntity<?> searchPosts(@RequestParam String title) {
-        List<BlogPost> posts = blogService.searchPosts(title);
-        return ResponseEntity.ok(ApiResponse.success("Search results retrieved successfully", posts));
+    @Operation(summary = "Search blog posts", description = "Search published posts by title, excerpt and content, ranked by relevance (q, or the legacy title parameter)")
+    public ResponseEntity<?> searchPosts(@RequestParam(required = false) String q,
+                                         @RequestParam(required = false) String title,
+                                         @RequestParam(defaultValue = "0") int page,
+                                         @RequestParam(defaultValue = "10") int size,
+                                         WebRequest webRequest) {
+        String query = q != null ? q : title;
+        if (query == null || query.isBlank()) {
+            return ResponseEntity.badRequest().body(ApiResponse.error("Search query is required"));
+        }
+        if (page < 0 || size < 1 || size > 50) {
+            return ResponseEntity.badRequest().body(ApiResponse.error("page must be 0 or more and size between 1 and 50"));
+        }
+        CatalogStamp stamp = blogService.getCatalogStamp();
+        if (webRequest.checkNotModified(stamp.getETag(), stamp.getLastModifiedMillis())) {
+            return null;
+        }
+        BlogSearchResult results = blogService.searchPosts(query, page, size);
+        return ResponseEntity.ok(ApiResponse.success("Search results retrieved successfully", results));
     }
 }
\ No newline at end of file
@@ -1,11 +1,18 @@
 package com.hotelkalsubai.controller;
 
 import com.hotelkalsubai.dto.ApiResponse;
+import com.hotelkalsubai.dto.CursorPage;
+import com.hotelkalsubai.dto.booking.AvailabilityCheckRequest;
+import com.hotelkalsubai.dto.booking.BookingHold;
 import com.hotelkalsubai.dto.booking.BookingRequest;
+import com.hotelkalsubai.dto.booking.BookingView;
+import com.hotelkalsubai.dto.booking.HoldRequest;
 import com.hotelkalsubai.entity.Booking;
+import com.hotelkalsubai.security.ClientAddressResolver;
 import com.hotelkalsubai.service.BookingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -22,6 +29,9 @@ public class BookingController {
     @Autowired
     private BookingService bookingService;
 
+    @Autowired
+    private ClientAddressResolver clientAddressResolver;
+
     @PostMapping
     @Operation(summary = "Create a new booking", description = "Create a new room booking")
     public ResponseEntity<?> createBooking(@Valid @RequestBody BookingRequest bookingRequest) {
@@ -33,7 +43,8 @@ public class BookingController {
                     bookingRequest.getGuestEmail(),
                     bookingRequest.getCheckInDate(),
                     bookingRequest.getCheckOutDate(),
-                    bookingRequest.getSpecialRequests()
+                    bookingRequest.getSpecialRequests(),
+                    bookingRequest.getHoldId()
             );
             return ResponseEntity.ok(ApiResponse.success("Booking created successfully", booking));
         } catch (RuntimeException e) {
@@ -41,10 +52,38 @@ public class BookingController {
         }
     }
 
+    @PostMapping("/holds")
+    @Operation(summary = "Hold a room", description = "Reserve a room for the selected dates for a few minutes while the guest completes checkout")
+    public ResponseEntity<?> placeHold(@Valid @RequestBody HoldRequest holdRequest, HttpServletRequest request) {
+        try {
+            BookingHold hold = bookingService.placeHold(
+                    holdRequest.getRoomId(),
+                    holdRequest.getCheckInDate(),
+                    holdRequest.getCheckOutDate(),
+                    clientAddressResolver.resolve(request)
+            );
+            return ResponseEntity.ok(ApiResponse.success("Room held successfully", hold));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    @DeleteMapping("/holds/{holdId}")
+    @Operation(summary = "Release a hold", description = "Release a room hold before it expires")
+    public ResponseEntity<?> releaseHold(@PathVariable String holdId) {
+        if (!bookingService.releaseHold(holdId)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(ApiResponse.success("Hold released successfully"));
+    }
+
     @GetMapping("/guest/{email}")
-    @Operation(summary = "Get bookings by guest email", description = "Retrieve all bookings for a specific guest email")
-    public ResponseEntity<?> getBookingsByEmail(@PathVariable String email) {
-        List<Booking> bookings = bookingService.getBookingsByEmail(email);
+    @Operation(summary = "Get bookings by guest email", description = "Retrieve bookings for a guest email newest first, one page at a time (pass nextCursor to continue)")
+    public ResponseEntity<?> getBookingsByEmail(
+            @PathVariable String email,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT_PARAM) int limit) {
+        CursorPage<BookingView> bookings = bookingService.getBookingsByEmail(email, cursor, limit);
         return ResponseEntity.ok(ApiResponse.success("Bookings retrieved successfully", bookings));
     }
 
@@ -71,4 +110,11 @@ public class BookingController {
             return ResponseEntity.badRequest().body(ApiResponse.error("Invalid date format"));
         }
     }
+
+    @PostMapping("/check-availability/batch")
+    @Operation(summary = "Check availability in batch", description = "Check availability for many (room, check-in, check-out) combinations in one call; results follow the request order")
+    public ResponseEntity<?> checkAvailabilityBatch(@Valid @RequestBody AvailabilityCheckRequest request) {
+        List<Boolean> available = bookingService.checkAvailability(request.getChecks());
+        return ResponseEntity.ok(ApiResponse.success("Availability checked", available));
+    }
 }
\ No newline at end of file
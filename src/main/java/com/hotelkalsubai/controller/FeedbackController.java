@@ -1,6 +1,9 @@
 package com.hotelkalsubai.controller;
 
 import com.hotelkalsubai.dto.ApiResponse;
+import com.hotelkalsubai.dto.CatalogStamp;
+import com.hotelkalsubai.dto.CursorPage;
+import com.hotelkalsubai.dto.feedback.RatingSummary;
 import com.hotelkalsubai.entity.Feedback;
 import com.hotelkalsubai.service.FeedbackService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -9,8 +12,7 @@ import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 @CrossOrigin(origins = "*", maxAge = 3600)
 @RestController
@@ -22,9 +24,16 @@ public class FeedbackController {
     private FeedbackService feedbackService;
 
     @GetMapping
-    @Operation(summary = "Get approved feedback", description = "Retrieve all approved feedback/reviews")
-    public ResponseEntity<?> getApprovedFeedback() {
-        List<Feedback> feedback = feedbackService.getApprovedFeedback();
+    @Operation(summary = "Get approved feedback", description = "Retrieve approved feedback/reviews newest first, one page at a time (pass nextCursor to continue)")
+    public ResponseEntity<?> getApprovedFeedback(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT_PARAM) int limit,
+            WebRequest webRequest) {
+        CatalogStamp stamp = feedbackService.getCatalogStamp();
+        if (webRequest.checkNotModified(stamp.getETag(), stamp.getLastModifiedMillis())) {
+            return null;
+        }
+        CursorPage<Feedback> feedback = feedbackService.getApprovedFeedbackPage(cursor, limit);
         return ResponseEntity.ok(ApiResponse.success("Feedback retrieved successfully", feedback));
     }
 
@@ -37,8 +46,22 @@ public class FeedbackController {
 
     @GetMapping("/average-rating")
     @Operation(summary = "Get average rating", description = "Get the average rating from all approved feedback")
-    public ResponseEntity<?> getAverageRating() {
+    public ResponseEntity<?> getAverageRating(WebRequest webRequest) {
+        CatalogStamp stamp = feedbackService.getCatalogStamp();
+        if (webRequest.checkNotModified(stamp.getETag(), stamp.getLastModifiedMillis())) {
+            return null;
+        }
         Double averageRating = feedbackService.getAverageRating();
         return ResponseEntity.ok(ApiResponse.success("Average rating retrieved successfully", averageRating));
     }
+
+    @GetMapping("/ratings")
+    @Operation(summary = "Get rating summary", description = "Get the average, count, 1-5 star histogram and monthly averages of approved feedback")
+    public ResponseEntity<?> getRatingSummary(@RequestParam(defaultValue = "12") int months) {
+        if (months < 1 || months > 120) {
+            return ResponseEntity.badRequest().body(ApiResponse.error("months must be between 1 and 120"));
+        }
+        RatingSummary summary = feedbackService.getRatingSummary(months);
+        return ResponseEntity.ok(ApiResponse.success("Rating summary retrieved successfully", summary));
+    }
 }
\ No newline at end of file
@@ -1,15 +1,25 @@
 package com.hotelkalsubai.controller;
 
 import com.hotelkalsubai.dto.ApiResponse;
+import com.hotelkalsubai.dto.CatalogStamp;
+import com.hotelkalsubai.dto.CursorPage;
 import com.hotelkalsubai.entity.GalleryImage;
 import com.hotelkalsubai.service.GalleryService;
+import com.hotelkalsubai.service.GalleryStorageService;
+import com.hotelkalsubai.service.ResponseSnapshots;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @CrossOrigin(origins = "*", maxAge = 3600)
 @RestController
@@ -20,25 +30,61 @@ public class GalleryController {
     @Autowired
     private GalleryService galleryService;
 
+    @Autowired
+    private ResponseSnapshots responseSnapshots;
+
+    @Autowired
+    private GalleryStorageService galleryStorageService;
+
     @GetMapping
-    @Operation(summary = "Get all gallery images", description = "Retrieve all gallery images")
-    public ResponseEntity<?> getAllImages() {
-        List<GalleryImage> images = galleryService.getAllImages();
+    @Operation(summary = "Get all gallery images", description = "Retrieve gallery images newest first, one page at a time (pass nextCursor to continue)")
+    public ResponseEntity<?> getAllImages(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT_PARAM) int limit,
+            WebRequest webRequest) {
+        CatalogStamp stamp = galleryService.getCatalogStamp();
+        if (webRequest.checkNotModified(stamp.getETag(), stamp.getLastModifiedMillis())) {
+            return null;
+        }
+        if (responseSnapshots.isEnabled() && cursor == null && limit == CursorPage.DEFAULT_LIMIT) {
+            return responseSnapshots.toResponse(galleryService.getGallerySnapshot(), webRequest);
+        }
+        CursorPage<GalleryImage> images = galleryService.getImagesPage(cursor, limit);
         return ResponseEntity.ok(ApiResponse.success("Gallery images retrieved successfully", images));
     }
 
     @GetMapping("/category/{category}")
     @Operation(summary = "Get images by category", description = "Retrieve gallery images by category")
-    public ResponseEntity<?> getImagesByCategory(@PathVariable String category) {
+    public ResponseEntity<?> getImagesByCategory(@PathVariable String category, WebRequest webRequest) {
+        CatalogStamp stamp = galleryService.getCatalogStamp();
+        if (webRequest.checkNotModified(stamp.getETag(), stamp.getLastModifiedMillis())) {
+            return null;
+        }
         List<GalleryImage> images = galleryService.getImagesByCategory(category);
         return ResponseEntity.ok(ApiResponse.success("Gallery images retrieved successfully", images));
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get image by ID", description = "Retrieve a specific gallery image by its ID")
-    public ResponseEntity<?> getImageById(@PathVariable Long id) {
+    public ResponseEntity<?> getImageById(@PathVariable Long id, WebRequest webRequest) {
+        CatalogStamp stamp = galleryService.getCatalogStamp();
+        if (webRequest.checkNotModified(stamp.getETag(), stamp.getLastModifiedMillis())) {
+            return null;
+        }
         return galleryService.getImageById(id)
                 .map(image -> ResponseEntity.ok(ApiResponse.success("Gallery image found", image)))
                 .orElse(ResponseEntity.notFound().build());
     }
+
+    @GetMapping("/files/{fileName:.+}")
+    @Operation(summary = "Get image file", description = "Serve an uploaded image, resized to the smallest stored width covering the requested width")
+    public ResponseEntity<Resource> getImageFile(@PathVariable String fileName, @RequestParam(required = false) Integer width) {
+        // Files are content-addressed, so a URL never changes meaning and can be cached indefinitely
+        return galleryStorageService.resolve(fileName, width)
+                .map(path -> ResponseEntity.ok()
+                        .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                        .contentType(MediaType.parseMediaType(galleryStorageService.contentTypeOf(path)))
+                        .body((Resource) new FileSystemResource(path)))
+                .orElse(ResponseEntity.notFound().build());
+    }
 }
\ No newline at end of file
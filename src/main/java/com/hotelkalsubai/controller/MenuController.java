@@ -1,13 +1,16 @@
 package com.hotelkalsubai.controller;
 
 import com.hotelkalsubai.dto.ApiResponse;
+import com.hotelkalsubai.dto.CatalogStamp;
 import com.hotelkalsubai.entity.MenuItem;
 import com.hotelkalsubai.service.MenuService;
+import com.hotelkalsubai.service.ResponseSnapshots;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -20,23 +23,41 @@ public class MenuController {
     @Autowired
     private MenuService menuService;
 
+    @Autowired
+    private ResponseSnapshots responseSnapshots;
+
     @GetMapping
     @Operation(summary = "Get all menu items", description = "Retrieve all available menu items")
-    public ResponseEntity<?> getAllMenuItems() {
+    public ResponseEntity<?> getAllMenuItems(WebRequest webRequest) {
+        CatalogStamp stamp = menuService.getCatalogStamp();
+        if (webRequest.checkNotModified(stamp.getETag(), stamp.getLastModifiedMillis())) {
+            return null;
+        }
+        if (responseSnapshots.isEnabled()) {
+            return responseSnapshots.toResponse(menuService.getMenuSnapshot(), webRequest);
+        }
         List<MenuItem> menuItems = menuService.getAllMenuItems();
         return ResponseEntity.ok(ApiResponse.success("Menu items retrieved successfully", menuItems));
     }
 
     @GetMapping("/category/{category}")
     @Operation(summary = "Get menu items by category", description = "Retrieve menu items by category (veg, nonveg, extras)")
-    public ResponseEntity<?> getMenuItemsByCategory(@PathVariable String category) {
+    public ResponseEntity<?> getMenuItemsByCategory(@PathVariable String category, WebRequest webRequest) {
+        CatalogStamp stamp = menuService.getCatalogStamp();
+        if (webRequest.checkNotModified(stamp.getETag(), stamp.getLastModifiedMillis())) {
+            return null;
+        }
         List<MenuItem> menuItems = menuService.getMenuItemsByCategory(category);
         return ResponseEntity.ok(ApiResponse.success("Menu items retrieved successfully", menuItems));
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get menu item by ID", description = "Retrieve a specific menu item by its ID")
-    public ResponseEntity<?> getMenuItemById(@PathVariable Long id) {
+    public ResponseEntity<?> getMenuItemById(@PathVariable Long id, WebRequest webRequest) {
+        CatalogStamp stamp = menuService.getCatalogStamp();
+        if (webRequest.checkNotModified(stamp.getETag(), stamp.getLastModifiedMillis())) {
+            return null;
+        }
         return menuService.getMenuItemById(id)
                 .map(menuItem -> ResponseEntity.ok(ApiResponse.success("Menu item found", menuItem)))
                 .orElse(ResponseEntity.notFound().build());
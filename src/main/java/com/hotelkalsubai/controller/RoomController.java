@@ -1,7 +1,15 @@
 package com.hotelkalsubai.controller;
 
 import com.hotelkalsubai.dto.ApiResponse;
+import com.hotelkalsubai.dto.CatalogStamp;
+import com.hotelkalsubai.dto.room.MonthCalendar;
+import com.hotelkalsubai.dto.room.RoomQuote;
+import com.hotelkalsubai.dto.room.RoomSearchResult;
 import com.hotelkalsubai.entity.Room;
+import com.hotelkalsubai.service.PricingEngine;
+import com.hotelkalsubai.service.ResponseSnapshots;
+import com.hotelkalsubai.service.RoomCalendarService;
+import com.hotelkalsubai.service.RoomSearchIndex;
 import com.hotelkalsubai.service.RoomService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -9,8 +17,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 
 @CrossOrigin(origins = "*", maxAge = 3600)
@@ -22,9 +34,28 @@ public class RoomController {
     @Autowired
     private RoomService roomService;
 
+    @Autowired
+    private ResponseSnapshots responseSnapshots;
+
+    @Autowired
+    private RoomCalendarService roomCalendarService;
+
+    @Autowired
+    private PricingEngine pricingEngine;
+
+    @Autowired
+    private RoomSearchIndex roomSearchIndex;
+
     @GetMapping
     @Operation(summary = "Get all available rooms", description = "Retrieve all available rooms")
-    public ResponseEntity<?> getAllAvailableRooms() {
+    public ResponseEntity<?> getAllAvailableRooms(WebRequest webRequest) {
+        CatalogStamp stamp = roomService.getCatalogStamp();
+        if (webRequest.checkNotModified(stamp.getETag(), stamp.getLastModifiedMillis())) {
+            return null;
+        }
+        if (responseSnapshots.isEnabled()) {
+            return responseSnapshots.toResponse(roomService.getRoomSnapshot(), webRequest);
+        }
         List<Room> rooms = roomService.getAllAvailableRooms();
         return ResponseEntity.ok(ApiResponse.success("Rooms retrieved successfully", rooms));
     }
@@ -38,9 +69,60 @@ public class RoomController {
         return ResponseEntity.ok(ApiResponse.success("Available rooms retrieved successfully", rooms));
     }
 
+    @GetMapping("/search")
+    @Operation(summary = "Search rooms", description = "Filter rooms by type, guests, price range, required amenities and optional dates, with facet counts")
+    public ResponseEntity<?> searchRooms(
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) Integer guests,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) List<String> amenities,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkIn,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOut) {
+        if ((checkIn == null) != (checkOut == null) || (checkIn != null && checkOut.isBefore(checkIn))) {
+            return ResponseEntity.badRequest().body(ApiResponse.error("Provide both checkIn and checkOut, in order, or neither"));
+        }
+        RoomSearchResult result = roomSearchIndex.search(type, guests, minPrice, maxPrice, amenities, checkIn, checkOut);
+        return ResponseEntity.ok(ApiResponse.success("Rooms retrieved successfully", result));
+    }
+
+    @GetMapping("/quote")
+    @Operation(summary = "Quote room prices", description = "Price a stay in every available room, including seasonal, weekend and length-of-stay rates")
+    public ResponseEntity<?> quoteRooms(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkIn,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOut) {
+        if (!checkOut.isAfter(checkIn)) {
+            return ResponseEntity.badRequest().body(ApiResponse.error("Check-out date must be after check-in date"));
+        }
+        if (!pricingEngine.isStayLengthAllowed(checkIn, checkOut)) {
+            return ResponseEntity.badRequest().body(ApiResponse.error("Stays are limited to " + pricingEngine.getMaxStayNights() + " nights"));
+        }
+        List<RoomQuote> quotes = pricingEngine.quoteAll(checkIn, checkOut);
+        return ResponseEntity.ok(ApiResponse.success("Quotes retrieved successfully", quotes));
+    }
+
+    @GetMapping("/calendar")
+    @Operation(summary = "Get occupancy calendar", description = "Retrieve a base64 occupancy bitmap per room for one or more months starting at the given month (yyyy-MM)")
+    public ResponseEntity<?> getCalendar(@RequestParam String month,
+                                         @RequestParam(defaultValue = "1") int months) {
+        if (months < 1 || months > 3) {
+            return ResponseEntity.badRequest().body(ApiResponse.error("months must be between 1 and 3"));
+        }
+        try {
+            List<MonthCalendar> calendars = roomCalendarService.getCalendars(YearMonth.parse(month), months);
+            return ResponseEntity.ok(ApiResponse.success("Calendar retrieved successfully", calendars));
+        } catch (DateTimeParseException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error("Invalid month format"));
+        }
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get room by ID", description = "Retrieve a specific room by its ID")
-    public ResponseEntity<?> getRoomById(@PathVariable Long id) {
+    public ResponseEntity<?> getRoomById(@PathVariable Long id, WebRequest webRequest) {
+        CatalogStamp stamp = roomService.getCatalogStamp();
+        if (webRequest.checkNotModified(stamp.getETag(), stamp.getLastModifiedMillis())) {
+            return null;
+        }
         return roomService.getRoomById(id)
                 .map(room -> ResponseEntity.ok(ApiResponse.success("Room found", room)))
                 .orElse(ResponseEntity.notFound().build());
@@ -48,7 +130,11 @@ public class RoomController {
 
     @GetMapping("/type/{type}")
     @Operation(summary = "Get rooms by type", description = "Retrieve rooms by type (standard, deluxe, suite)")
-    public ResponseEntity<?> getRoomsByType(@PathVariable String type) {
+    public ResponseEntity<?> getRoomsByType(@PathVariable String type, WebRequest webRequest) {
+        CatalogStamp stamp = roomService.getCatalogStamp();
+        if (webRequest.checkNotModified(stamp.getETag(), stamp.getLastModifiedMillis())) {
+            return null;
+        }
         List<Room> rooms = roomService.getRoomsByType(type);
         return ResponseEntity.ok(ApiResponse.success("Rooms retrieved successfully", rooms));
     }
@@ -1,19 +1,24 @@
 package com.hotelkalsubai.controller.admin;
 
 import com.hotelkalsubai.dto.ApiResponse;
+import com.hotelkalsubai.dto.CursorPage;
+import com.hotelkalsubai.dto.booking.BookingView;
 import com.hotelkalsubai.entity.Booking;
+import com.hotelkalsubai.service.BookingExportService;
 import com.hotelkalsubai.service.BookingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
-import java.util.List;
 
 @CrossOrigin(origins = "*", maxAge = 3600)
 @RestController
@@ -26,22 +31,53 @@ public class AdminBookingController {
     @Autowired
     private BookingService bookingService;
 
+    @Autowired
+    private BookingExportService bookingExportService;
+
     @GetMapping
-    @Operation(summary = "Get all bookings", description = "Retrieve all bookings")
-    public ResponseEntity<?> getAllBookings() {
-        List<Booking> bookings = bookingService.getAllBookings();
+    @Operation(summary = "Get all bookings", description = "Retrieve bookings newest first, one page at a time (pass nextCursor to continue)")
+    public ResponseEntity<?> getAllBookings(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT_PARAM) int limit) {
+        CursorPage<BookingView> bookings = bookingService.getBookingsPage(cursor, limit);
         return ResponseEntity.ok(ApiResponse.success("Bookings retrieved successfully", bookings));
     }
 
     @GetMapping("/date-range")
-    @Operation(summary = "Get bookings by date range", description = "Retrieve bookings within a specific date range")
+    @Operation(summary = "Get bookings by date range", description = "Retrieve bookings checking in within a date range in check-in order, one page at a time (pass nextCursor to continue)")
     public ResponseEntity<?> getBookingsByDateRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
-        List<Booking> bookings = bookingService.getBookingsByDateRange(startDate, endDate);
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT_PARAM) int limit) {
+        CursorPage<BookingView> bookings = bookingService.getBookingsByDateRange(startDate, endDate, cursor, limit);
         return ResponseEntity.ok(ApiResponse.success("Bookings retrieved successfully", bookings));
     }
 
+    @GetMapping("/export")
+    @Operation(summary = "Export bookings", description = "Stream all bookings, or those checking in within a date range, as NDJSON or CSV")
+    public ResponseEntity<StreamingResponseBody> exportBookings(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        BookingExportService.Format exportFormat;
+        try {
+            exportFormat = BookingExportService.Format.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        if ((startDate == null) != (endDate == null) || (startDate != null && endDate.isBefore(startDate))) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        boolean csv = exportFormat == BookingExportService.Format.CSV;
+        StreamingResponseBody body = outputStream -> bookingExportService.export(outputStream, exportFormat, startDate, endDate);
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv") : new MediaType("application", "x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"bookings." + (csv ? "csv" : "ndjson") + "\"")
+                .body(body);
+    }
+
     @PutMapping("/{id}/status")
     @Operation(summary = "Update booking status", description = "Update the status of a booking")
     public ResponseEntity<?> updateBookingStatus(@PathVariable Long id, @RequestParam String status) {
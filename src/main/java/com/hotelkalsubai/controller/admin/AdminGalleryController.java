@@ -8,10 +8,14 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.util.List;
 
 @CrossOrigin(origins = "*", maxAge = 3600)
@@ -39,12 +43,33 @@ public class AdminGalleryController {
         return ResponseEntity.ok(ApiResponse.success("Gallery image uploaded successfully", savedImage));
     }
 
+    @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Upload gallery image file", description = "Store an image file and create resized variants for smaller screens")
+    public ResponseEntity<?> uploadImageFile(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam String category,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String description) {
+        try {
+            GalleryImage savedImage = galleryService.uploadImage(file, category, title, description);
+            return ResponseEntity.ok(ApiResponse.success("Gallery image uploaded successfully", savedImage));
+        } catch (IOException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to store image: " + e.getMessage()));
+        }
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Update gallery image", description = "Update an existing gallery image")
     public ResponseEntity<?> updateImage(@PathVariable Long id, @Valid @RequestBody GalleryImage galleryImage) {
         return galleryService.getImageById(id)
                 .map(existingImage -> {
                     galleryImage.setId(id);
+                    if (galleryImage.getContentHash() == null && existingImage.getImageUrl().equals(galleryImage.getImageUrl())) {
+                        galleryImage.setContentHash(existingImage.getContentHash());
+                        galleryImage.setWidth(existingImage.getWidth());
+                        galleryImage.setHeight(existingImage.getHeight());
+                    }
                     GalleryImage updatedImage = galleryService.saveImage(galleryImage);
                     return ResponseEntity.ok(ApiResponse.success("Gallery image updated successfully", updatedImage));
                 })
@@ -0,0 +1,89 @@
+package com.hotelkalsubai.controller.admin;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.hotelkalsubai.dto.ApiResponse;
+import com.hotelkalsubai.dto.admin.CacheStatistics;
+import com.hotelkalsubai.dto.admin.PasswordHashingStatistics;
+import com.hotelkalsubai.security.JwtUtils;
+import com.hotelkalsubai.security.PooledPasswordEncoder;
+import com.hotelkalsubai.security.TokenVersions;
+import com.hotelkalsubai.security.UserDetailsServiceImpl;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/api/admin/metrics")
+@Tag(name = "Admin - Metrics", description = "Admin runtime metrics APIs")
+@SecurityRequirement(name = "Bearer Authentication")
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminMetricsController {
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Autowired
+    private TokenVersions tokenVersions;
+
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Autowired
+    private PooledPasswordEncoder passwordEncoder;
+
+    @GetMapping("/caches")
+    @Operation(summary = "Get cache statistics", description = "Retrieve size, hit/miss counts and evictions for each catalog cache and the security caches")
+    public ResponseEntity<?> getCacheStatistics() {
+        List<CacheStatistics> statistics = new ArrayList<>();
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache instanceof CaffeineCache caffeineCache) {
+                statistics.add(toStatistics(name, caffeineCache.getNativeCache()));
+            }
+        }
+        statistics.add(toStatistics("jwt-verified", jwtUtils.getVerifiedTokenCache()));
+        statistics.add(toStatistics("jwt-token-versions", tokenVersions.getCache()));
+        statistics.add(toStatistics("user-details", userDetailsService.getCache()));
+        return ResponseEntity.ok(ApiResponse.success("Cache statistics retrieved successfully", statistics));
+    }
+
+    @GetMapping("/password-hashing")
+    @Operation(summary = "Get password hashing statistics", description = "Retrieve pool usage, average hash latency and rejections of the password hashing pool")
+    public ResponseEntity<?> getPasswordHashingStatistics() {
+        PasswordHashingStatistics statistics = new PasswordHashingStatistics(
+                passwordEncoder.getThreads(),
+                passwordEncoder.getActiveCount(),
+                passwordEncoder.getQueueDepth(),
+                passwordEncoder.getQueueCapacity(),
+                passwordEncoder.getEncodeCount(),
+                averageMillis(passwordEncoder.getEncodeNanos(), passwordEncoder.getEncodeCount()),
+                passwordEncoder.getMatchesCount(),
+                averageMillis(passwordEncoder.getMatchesNanos(), passwordEncoder.getMatchesCount()),
+                passwordEncoder.getRejectedCount());
+        return ResponseEntity.ok(ApiResponse.success("Password hashing statistics retrieved successfully", statistics));
+    }
+
+    private static double averageMillis(long totalNanos, long count) {
+        return count == 0 ? 0 : totalNanos / 1_000_000.0 / count;
+    }
+
+    private static CacheStatistics toStatistics(String name, com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+        CacheStats stats = nativeCache.stats();
+        return new CacheStatistics(name, nativeCache.estimatedSize(), stats.hitCount(),
+                stats.missCount(), stats.hitRate(), stats.evictionCount());
+    }
+}
\ No newline at end of file
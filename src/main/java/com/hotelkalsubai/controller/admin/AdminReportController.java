@@ -0,0 +1,41 @@
+package com.hotelkalsubai.controller.admin;
+
+import com.hotelkalsubai.dto.ApiResponse;
+import com.hotelkalsubai.dto.report.DailyOccupancy;
+import com.hotelkalsubai.service.OccupancyReportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/api/admin/reports")
+@Tag(name = "Admin - Reports", description = "Admin occupancy and revenue reporting APIs")
+@SecurityRequirement(name = "Bearer Authentication")
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminReportController {
+
+    @Autowired
+    private OccupancyReportService occupancyReportService;
+
+    @GetMapping("/occupancy")
+    @Operation(summary = "Get daily occupancy", description = "Retrieve rooms sold, occupancy %, revenue, ADR, RevPAR and revenue by room type for each night in a date range")
+    public ResponseEntity<?> getDailyOccupancy(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        if (endDate.isBefore(startDate) || ChronoUnit.DAYS.between(startDate, endDate) > 366) {
+            return ResponseEntity.badRequest().body(ApiResponse.error("Date range must be between 1 and 367 days"));
+        }
+        List<DailyOccupancy> report = occupancyReportService.getDailyOccupancy(startDate, endDate);
+        return ResponseEntity.ok(ApiResponse.success("Occupancy report retrieved successfully", report));
+    }
+}
\ No newline at end of file
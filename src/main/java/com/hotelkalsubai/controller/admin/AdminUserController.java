@@ -1,6 +1,8 @@
 package com.hotelkalsubai.controller.admin;
 
 import com.hotelkalsubai.dto.ApiResponse;
+import com.hotelkalsubai.dto.CursorPage;
+import com.hotelkalsubai.dto.admin.UserView;
 import com.hotelkalsubai.dto.auth.SignupRequest;
 import com.hotelkalsubai.entity.User;
 import com.hotelkalsubai.service.UserService;
@@ -13,7 +15,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.Set;
 
 @CrossOrigin(origins = "*", maxAge = 3600)
@@ -28,9 +29,11 @@ public class AdminUserController {
     private UserService userService;
 
     @GetMapping
-    @Operation(summary = "Get all users", description = "Retrieve all users")
-    public ResponseEntity<?> getAllUsers() {
-        List<User> users = userService.getAllUsers();
+    @Operation(summary = "Get all users", description = "Retrieve users newest first, one page at a time (pass nextCursor to continue)")
+    public ResponseEntity<?> getAllUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT_PARAM) int limit) {
+        CursorPage<UserView> users = userService.getUsersPage(cursor, limit);
         return ResponseEntity.ok(ApiResponse.success("Users retrieved successfully", users));
     }
 
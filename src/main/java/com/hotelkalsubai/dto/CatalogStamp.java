@@ -0,0 +1,36 @@
+package com.hotelkalsubai.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Cheap validator for a catalog table: row count, newest modification time and sum of ids.
+ * Deletions move only the count and id sum, so they show up in the ETag but not in Last-Modified.
+ */
+public class CatalogStamp {
+    private final long count;
+    private final LocalDateTime lastModified;
+    private final long idSum;
+
+    public CatalogStamp(Long count, LocalDateTime lastModified, Long idSum) {
+        this.count = count != null ? count : 0;
+        this.lastModified = lastModified;
+        this.idSum = idSum != null ? idSum : 0;
+    }
+
+    public String getETag() {
+        long modified = lastModified != null ? getLastModifiedMillis() : 0;
+        return "W/\"" + Long.toHexString(count) + "-" + Long.toHexString(modified) + "-" + Long.toHexString(idSum) + "\"";
+    }
+
+    public long getLastModifiedMillis() {
+        return lastModified != null ? lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+    }
+
+    // Getters
+    public long getCount() { return count; }
+
+    public LocalDateTime getLastModified() { return lastModified; }
+
+    public long getIdSum() { return idSum; }
+}
\ No newline at end of file
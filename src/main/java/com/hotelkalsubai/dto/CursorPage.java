@@ -0,0 +1,45 @@
+package com.hotelkalsubai.dto;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+public class CursorPage<T> {
+    public static final int DEFAULT_LIMIT = 50;
+    public static final String DEFAULT_LIMIT_PARAM = "" + DEFAULT_LIMIT;
+    public static final int MAX_LIMIT = 200;
+
+    private final List<T> items;
+    private final String nextCursor;
+
+    public CursorPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public static int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    // Fetch one row past the page so the presence of a next page is known without a count query
+    public static Pageable request(int limit) {
+        return PageRequest.of(0, limit + 1);
+    }
+
+    public static <T> CursorPage<T> of(List<T> rows, int limit, Function<T, LocalDateTime> timestamp, Function<T, Long> id) {
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, limit);
+        T last = items.get(limit - 1);
+        return new CursorPage<>(List.copyOf(items), new PageCursor(timestamp.apply(last), id.apply(last)).encode());
+    }
+
+    // Getters
+    public List<T> getItems() { return items; }
+
+    public String getNextCursor() { return nextCursor; }
+}
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.hotelkalsubai.dto;
+
+public class ResponseSnapshot {
+    private final byte[] json;
+    private final byte[] gzip;
+
+    public ResponseSnapshot(byte[] json, byte[] gzip) {
+        this.json = json;
+        this.gzip = gzip;
+    }
+
+    // Getters
+    public byte[] getJson() { return json; }
+
+    public byte[] getGzip() { return gzip; }
+}
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.hotelkalsubai.dto.admin;
+
+public class PasswordHashingStatistics {
+    private final int threads;
+    private final int activeCount;
+    private final int queueDepth;
+    private final int queueCapacity;
+    private final long encodeCount;
+    private final double averageEncodeMillis;
+    private final long matchesCount;
+    private final double averageMatchesMillis;
+    private final long rejectedCount;
+
+    public PasswordHashingStatistics(int threads, int activeCount, int queueDepth, int queueCapacity,
+                                     long encodeCount, double averageEncodeMillis,
+                                     long matchesCount, double averageMatchesMillis, long rejectedCount) {
+        this.threads = threads;
+        this.activeCount = activeCount;
+        this.queueDepth = queueDepth;
+        this.queueCapacity = queueCapacity;
+        this.encodeCount = encodeCount;
+        this.averageEncodeMillis = averageEncodeMillis;
+        this.matchesCount = matchesCount;
+        this.averageMatchesMillis = averageMatchesMillis;
+        this.rejectedCount = rejectedCount;
+    }
+
+    // Getters
+    public int getThreads() { return threads; }
+
+    public int getActiveCount() { return activeCount; }
+
+    public int getQueueDepth() { return queueDepth; }
+
+    public int getQueueCapacity() { return queueCapacity; }
+
+    public long getEncodeCount() { return encodeCount; }
+
+    public double getAverageEncodeMillis() { return averageEncodeMillis; }
+
+    public long getMatchesCount() { return matchesCount; }
+
+    public double getAverageMatchesMillis() { return averageMatchesMillis; }
+
+    public long getRejectedCount() { return rejectedCount; }
+}
\ No newline at end of file
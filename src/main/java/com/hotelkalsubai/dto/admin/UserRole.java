@@ -0,0 +1,18 @@
+package com.hotelkalsubai.dto.admin;
+
+import com.hotelkalsubai.entity.User;
+
+public class UserRole {
+    private final Long userId;
+    private final User.Role role;
+
+    public UserRole(Long userId, User.Role role) {
+        this.userId = userId;
+        this.role = role;
+    }
+
+    // Getters
+    public Long getUserId() { return userId; }
+
+    public User.Role getRole() { return role; }
+}
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.hotelkalsubai.dto.admin;
+
+import com.hotelkalsubai.entity.User;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Read-only user for the admin list, leaving out credentials, social ids and the token version.
+ */
+public class UserView {
+    private final Long id;
+    private final String username;
+    private final String email;
+    private final String phoneNumber;
+    private final Boolean isEmailVerified;
+    private final Boolean isPhoneVerified;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private Set<User.Role> roles = Set.of();
+
+    public UserView(Long id, String username, String email, String phoneNumber, Boolean isEmailVerified,
+                    Boolean isPhoneVerified, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.username = username;
+        this.email = email;
+        this.phoneNumber = phoneNumber;
+        this.isEmailVerified = isEmailVerified;
+        this.isPhoneVerified = isPhoneVerified;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+
+    public String getUsername() { return username; }
+
+    public String getEmail() { return email; }
+
+    public String getPhoneNumber() { return phoneNumber; }
+
+    public Boolean getIsEmailVerified() { return isEmailVerified; }
+
+    public Boolean getIsPhoneVerified() { return isPhoneVerified; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+
+    public Set<User.Role> getRoles() { return roles; }
+    public void setRoles(Set<User.Role> roles) { this.roles = roles; }
+}
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.hotelkalsubai.dto.blog;
+
+import com.hotelkalsubai.entity.BlogPost;
+
+import java.util.List;
+
+public class BlogSearchResult {
+    private final List<BlogPost> items;
+    private final int total;
+    private final int page;
+    private final int size;
+
+    public BlogSearchResult(List<BlogPost> items, int total, int page, int size) {
+        this.items = items;
+        this.total = total;
+        this.page = page;
+        this.size = size;
+    }
+
+    // Getters
+    public List<BlogPost> getItems() { return items; }
+
+    public int getTotal() { return total; }
+
+    public int getPage() { return page; }
+
+    public int getSize() { return size; }
+}
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.hotelkalsubai.dto.booking;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+
+public class AvailabilityCheck {
+    @NotNull
+    private Long roomId;
+
+    @NotNull
+    private LocalDate checkIn;
+
+    @NotNull
+    private LocalDate checkOut;
+
+    // Constructors
+    public AvailabilityCheck() {}
+
+    // Getters and Setters
+    public Long getRoomId() { return roomId; }
+    public void setRoomId(Long roomId) { this.roomId = roomId; }
+
+    public LocalDate getCheckIn() { return checkIn; }
+    public void setCheckIn(LocalDate checkIn) { this.checkIn = checkIn; }
+
+    public LocalDate getCheckOut() { return checkOut; }
+    public void setCheckOut(LocalDate checkOut) { this.checkOut = checkOut; }
+}
\ No newline at end of file
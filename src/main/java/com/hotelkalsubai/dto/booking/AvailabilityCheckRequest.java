@@ -0,0 +1,21 @@
+package com.hotelkalsubai.dto.booking;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class AvailabilityCheckRequest {
+    @NotEmpty
+    @Size(max = 200)
+    @Valid
+    private List<AvailabilityCheck> checks;
+
+    // Constructors
+    public AvailabilityCheckRequest() {}
+
+    // Getters and Setters
+    public List<AvailabilityCheck> getChecks() { return checks; }
+    public void setChecks(List<AvailabilityCheck> checks) { this.checks = checks; }
+}
\ No newline at end of file
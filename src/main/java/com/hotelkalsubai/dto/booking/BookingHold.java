@@ -0,0 +1,35 @@
+package com.hotelkalsubai.dto.booking;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public class BookingHold {
+    private final String holdId;
+    private final Long roomId;
+    private final LocalDate checkInDate;
+    private final LocalDate checkOutDate;
+    private final LocalDateTime expiresAt;
+
+    public BookingHold(String holdId, Long roomId, LocalDate checkInDate, LocalDate checkOutDate, LocalDateTime expiresAt) {
+        this.holdId = holdId;
+        this.roomId = roomId;
+        this.checkInDate = checkInDate;
+        this.checkOutDate = checkOutDate;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean overlaps(LocalDate checkIn, LocalDate checkOut) {
+        return !checkInDate.isAfter(checkOut) && !checkOutDate.isBefore(checkIn);
+    }
+
+    // Getters
+    public String getHoldId() { return holdId; }
+
+    public Long getRoomId() { return roomId; }
+
+    public LocalDate getCheckInDate() { return checkInDate; }
+
+    public LocalDate getCheckOutDate() { return checkOutDate; }
+
+    public LocalDateTime getExpiresAt() { return expiresAt; }
+}
\ No newline at end of file
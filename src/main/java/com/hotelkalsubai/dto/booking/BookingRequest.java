@@ -28,6 +28,8 @@ public class BookingRequest {
 
     private String specialRequests;
 
+    private String holdId;
+
     // Constructors
     public BookingRequest() {}
 
@@ -52,4 +54,7 @@ public class BookingRequest {
 
     public String getSpecialRequests() { return specialRequests; }
     public void setSpecialRequests(String specialRequests) { this.specialRequests = specialRequests; }
+
+    public String getHoldId() { return holdId; }
+    public void setHoldId(String holdId) { this.holdId = holdId; }
 }
\ No newline at end of file
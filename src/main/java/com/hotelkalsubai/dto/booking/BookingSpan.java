@@ -0,0 +1,40 @@
+package com.hotelkalsubai.dto.booking;
+
+import com.hotelkalsubai.entity.Booking;
+
+import java.time.LocalDate;
+
+public class BookingSpan {
+    private final Long bookingId;
+    private final Long roomId;
+    private final LocalDate checkInDate;
+    private final LocalDate checkOutDate;
+
+    public BookingSpan(Long bookingId, Long roomId, LocalDate checkInDate, LocalDate checkOutDate) {
+        this.bookingId = bookingId;
+        this.roomId = roomId;
+        this.checkInDate = checkInDate;
+        this.checkOutDate = checkOutDate;
+    }
+
+    public static BookingSpan of(Booking booking) {
+        return new BookingSpan(
+                booking.getId(),
+                booking.getRoom().getId(),
+                booking.getCheckInDate(),
+                booking.getCheckOutDate());
+    }
+
+    public boolean overlaps(LocalDate checkIn, LocalDate checkOut) {
+        return !checkInDate.isAfter(checkOut) && !checkOutDate.isBefore(checkIn);
+    }
+
+    // Getters
+    public Long getBookingId() { return bookingId; }
+
+    public Long getRoomId() { return roomId; }
+
+    public LocalDate getCheckInDate() { return checkInDate; }
+
+    public LocalDate getCheckOutDate() { return checkOutDate; }
+}
\ No newline at end of file
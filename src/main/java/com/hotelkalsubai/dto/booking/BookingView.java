@@ -0,0 +1,78 @@
+package com.hotelkalsubai.dto.booking;
+
+import com.hotelkalsubai.dto.room.RoomSummary;
+import com.hotelkalsubai.entity.Booking;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only booking with a summary of its room, selected in one join for list views.
+ */
+public class BookingView {
+    private final Long id;
+    private final RoomSummary room;
+    private final String guestName;
+    private final String guestPhone;
+    private final String guestEmail;
+    private final LocalDate checkInDate;
+    private final LocalDate checkOutDate;
+    private final BigDecimal totalAmount;
+    private final Booking.BookingStatus status;
+    private final Booking.PaymentStatus paymentStatus;
+    private final String paymentId;
+    private final String specialRequests;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public BookingView(Long id, Long roomId, String roomName, String roomType, BigDecimal roomPricePerNight,
+                       String guestName, String guestPhone, String guestEmail,
+                       LocalDate checkInDate, LocalDate checkOutDate, BigDecimal totalAmount,
+                       Booking.BookingStatus status, Booking.PaymentStatus paymentStatus, String paymentId,
+                       String specialRequests, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.room = new RoomSummary(roomId, roomName, roomType, roomPricePerNight);
+        this.guestName = guestName;
+        this.guestPhone = guestPhone;
+        this.guestEmail = guestEmail;
+        this.checkInDate = checkInDate;
+        this.checkOutDate = checkOutDate;
+        this.totalAmount = totalAmount;
+        this.status = status;
+        this.paymentStatus = paymentStatus;
+        this.paymentId = paymentId;
+        this.specialRequests = specialRequests;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    // Getters
+    public Long getId() { return id; }
+
+    public RoomSummary getRoom() { return room; }
+
+    public String getGuestName() { return guestName; }
+
+    public String getGuestPhone() { return guestPhone; }
+
+    public String getGuestEmail() { return guestEmail; }
+
+    public LocalDate getCheckInDate() { return checkInDate; }
+
+    public LocalDate getCheckOutDate() { return checkOutDate; }
+
+    public BigDecimal getTotalAmount() { return totalAmount; }
+
+    public Booking.BookingStatus getStatus() { return status; }
+
+    public Booking.PaymentStatus getPaymentStatus() { return paymentStatus; }
+
+    public String getPaymentId() { return paymentId; }
+
+    public String getSpecialRequests() { return specialRequests; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+}
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.hotelkalsubai.dto.booking;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+
+public class HoldRequest {
+    @NotNull
+    private Long roomId;
+
+    @NotNull
+    private LocalDate checkInDate;
+
+    @NotNull
+    private LocalDate checkOutDate;
+
+    // Constructors
+    public HoldRequest() {}
+
+    // Getters and Setters
+    public Long getRoomId() { return roomId; }
+    public void setRoomId(Long roomId) { this.roomId = roomId; }
+
+    public LocalDate getCheckInDate() { return checkInDate; }
+    public void setCheckInDate(LocalDate checkInDate) { this.checkInDate = checkInDate; }
+
+    public LocalDate getCheckOutDate() { return checkOutDate; }
+    public void setCheckOutDate(LocalDate checkOutDate) { this.checkOutDate = checkOutDate; }
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.hotelkalsubai.dto.feedback;
+
+import java.time.YearMonth;
+
+public class MonthlyRating {
+    private final YearMonth month;
+    private final long count;
+    private final double average;
+
+    public MonthlyRating(YearMonth month, long count, double average) {
+        this.month = month;
+        this.count = count;
+        this.average = average;
+    }
+
+    // Getters
+    public YearMonth getMonth() { return month; }
+
+    public long getCount() { return count; }
+
+    public double getAverage() { return average; }
+}
\ No newline at end of file
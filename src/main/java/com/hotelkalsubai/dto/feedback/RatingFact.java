@@ -0,0 +1,22 @@
+package com.hotelkalsubai.dto.feedback;
+
+import java.time.LocalDateTime;
+
+public class RatingFact {
+    private final Long feedbackId;
+    private final Integer rating;
+    private final LocalDateTime submittedAt;
+
+    public RatingFact(Long feedbackId, Integer rating, LocalDateTime submittedAt) {
+        this.feedbackId = feedbackId;
+        this.rating = rating;
+        this.submittedAt = submittedAt;
+    }
+
+    // Getters
+    public Long getFeedbackId() { return feedbackId; }
+
+    public Integer getRating() { return rating; }
+
+    public LocalDateTime getSubmittedAt() { return submittedAt; }
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.hotelkalsubai.dto.feedback;
+
+import java.util.List;
+import java.util.Map;
+
+public class RatingSummary {
+    private final long count;
+    private final double average;
+    private final Map<Integer, Long> histogram;
+    private final List<MonthlyRating> monthly;
+
+    public RatingSummary(long count, double average, Map<Integer, Long> histogram, List<MonthlyRating> monthly) {
+        this.count = count;
+        this.average = average;
+        this.histogram = histogram;
+        this.monthly = monthly;
+    }
+
+    // Getters
+    public long getCount() { return count; }
+
+    public double getAverage() { return average; }
+
+    public Map<Integer, Long> getHistogram() { return histogram; }
+
+    public List<MonthlyRating> getMonthly() { return monthly; }
+}
\ No newline at end of file
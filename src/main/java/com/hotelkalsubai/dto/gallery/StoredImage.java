@@ -0,0 +1,28 @@
+package com.hotelkalsubai.dto.gallery;
+
+public class StoredImage {
+    private final String contentHash;
+    private final String extension;
+    private final int width;
+    private final int height;
+
+    public StoredImage(String contentHash, String extension, int width, int height) {
+        this.contentHash = contentHash;
+        this.extension = extension;
+        this.width = width;
+        this.height = height;
+    }
+
+    public String getFileName() {
+        return contentHash + "." + extension;
+    }
+
+    // Getters
+    public String getContentHash() { return contentHash; }
+
+    public String getExtension() { return extension; }
+
+    public int getWidth() { return width; }
+
+    public int getHeight() { return height; }
+}
\ No newline at end of file
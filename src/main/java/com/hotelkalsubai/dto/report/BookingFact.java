@@ -0,0 +1,42 @@
+package com.hotelkalsubai.dto.report;
+
+import com.hotelkalsubai.entity.Booking;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public class BookingFact {
+    private final Long bookingId;
+    private final String roomType;
+    private final LocalDate checkInDate;
+    private final LocalDate checkOutDate;
+    private final BigDecimal totalAmount;
+    private final Booking.BookingStatus status;
+    private final Booking.PaymentStatus paymentStatus;
+
+    public BookingFact(Long bookingId, String roomType, LocalDate checkInDate, LocalDate checkOutDate,
+                       BigDecimal totalAmount, Booking.BookingStatus status, Booking.PaymentStatus paymentStatus) {
+        this.bookingId = bookingId;
+        this.roomType = roomType;
+        this.checkInDate = checkInDate;
+        this.checkOutDate = checkOutDate;
+        this.totalAmount = totalAmount;
+        this.status = status;
+        this.paymentStatus = paymentStatus;
+    }
+
+    // Getters
+    public Long getBookingId() { return bookingId; }
+
+    public String getRoomType() { return roomType; }
+
+    public LocalDate getCheckInDate() { return checkInDate; }
+
+    public LocalDate getCheckOutDate() { return checkOutDate; }
+
+    public BigDecimal getTotalAmount() { return totalAmount; }
+
+    public Booking.BookingStatus getStatus() { return status; }
+
+    public Booking.PaymentStatus getPaymentStatus() { return paymentStatus; }
+}
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.hotelkalsubai.dto.report;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+public class DailyOccupancy {
+    private final LocalDate date;
+    private final int roomsSold;
+    private final long totalRooms;
+    private final BigDecimal occupancyPercent;
+    private final BigDecimal revenue;
+    private final BigDecimal paidRevenue;
+    private final BigDecimal averageDailyRate;
+    private final BigDecimal revenuePerAvailableRoom;
+    private final Map<String, BigDecimal> revenueByRoomType;
+
+    public DailyOccupancy(LocalDate date, int roomsSold, long totalRooms, BigDecimal occupancyPercent,
+                          BigDecimal revenue, BigDecimal paidRevenue, BigDecimal averageDailyRate,
+                          BigDecimal revenuePerAvailableRoom, Map<String, BigDecimal> revenueByRoomType) {
+        this.date = date;
+        this.roomsSold = roomsSold;
+        this.totalRooms = totalRooms;
+        this.occupancyPercent = occupancyPercent;
+        this.revenue = revenue;
+        this.paidRevenue = paidRevenue;
+        this.averageDailyRate = averageDailyRate;
+        this.revenuePerAvailableRoom = revenuePerAvailableRoom;
+        this.revenueByRoomType = revenueByRoomType;
+    }
+
+    // Getters
+    public LocalDate getDate() { return date; }
+
+    public int getRoomsSold() { return roomsSold; }
+
+    public long getTotalRooms() { return totalRooms; }
+
+    public BigDecimal getOccupancyPercent() { return occupancyPercent; }
+
+    public BigDecimal getRevenue() { return revenue; }
+
+    public BigDecimal getPaidRevenue() { return paidRevenue; }
+
+    public BigDecimal getAverageDailyRate() { return averageDailyRate; }
+
+    public BigDecimal getRevenuePerAvailableRoom() { return revenuePerAvailableRoom; }
+
+    public Map<String, BigDecimal> getRevenueByRoomType() { return revenueByRoomType; }
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.hotelkalsubai.dto.room;
+
+import java.util.List;
+
+public class MonthCalendar {
+    private final String month;
+    private final int days;
+    private final List<RoomOccupancy> rooms;
+
+    public MonthCalendar(String month, int days, List<RoomOccupancy> rooms) {
+        this.month = month;
+        this.days = days;
+        this.rooms = rooms;
+    }
+
+    // Getters
+    public String getMonth() { return month; }
+
+    public int getDays() { return days; }
+
+    public List<RoomOccupancy> getRooms() { return rooms; }
+}
@@ -0,0 +1,50 @@
+package com.hotelkalsubai.dto.room;
+
+import com.hotelkalsubai.entity.Room;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public class RoomListing {
+    private final Long id;
+    private final String name;
+    private final String type;
+    private final BigDecimal pricePerNight;
+    private final Integer maxOccupancy;
+    private final List<String> amenities;
+    private final List<String> images;
+
+    public RoomListing(Long id, String name, String type, BigDecimal pricePerNight, Integer maxOccupancy,
+                       List<String> amenities, List<String> images) {
+        this.id = id;
+        this.name = name;
+        this.type = type;
+        this.pricePerNight = pricePerNight;
+        this.maxOccupancy = maxOccupancy;
+        this.amenities = amenities;
+        this.images = images;
+    }
+
+    // Copies the collections, so the room's lazy collections must be loadable when this is called
+    public static RoomListing of(Room room) {
+        return new RoomListing(room.getId(), room.getName(), room.getType(), room.getPricePerNight(),
+                room.getMaxOccupancy(),
+                room.getAmenities() != null ? List.copyOf(room.getAmenities()) : List.of(),
+                room.getImages() != null ? List.copyOf(room.getImages()) : List.of());
+    }
+
+    // Getters
+    public Long getId() { return id; }
+
+    public String getName() { return name; }
+
+    public String getType() { return type; }
+
+    public BigDecimal getPricePerNight() { return pricePerNight; }
+
+    public Integer getMaxOccupancy() { return maxOccupancy; }
+
+    public List<String> getAmenities() { return amenities; }
+
+    public List<String> getImages() { return images; }
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.hotelkalsubai.dto.room;
+
+public class RoomOccupancy {
+    private final Long roomId;
+    private final String roomName;
+    private final String occupied;
+
+    public RoomOccupancy(Long roomId, String roomName, String occupied) {
+        this.roomId = roomId;
+        this.roomName = roomName;
+        this.occupied = occupied;
+    }
+
+    // Getters
+    public Long getRoomId() { return roomId; }
+
+    public String getRoomName() { return roomName; }
+
+    /**
+     * Base64 bitmap of occupied dates: bit (i % 8) of byte (i / 8), least significant first,
+     * is set when day i + 1 of the month is occupied.
+     */
+    public String getOccupied() { return occupied; }
+}
@@ -0,0 +1,26 @@
+package com.hotelkalsubai.dto.room;
+
+import java.math.BigDecimal;
+
+public class RoomQuote {
+    private final Long roomId;
+    private final String roomName;
+    private final long nights;
+    private final BigDecimal totalAmount;
+
+    public RoomQuote(Long roomId, String roomName, long nights, BigDecimal totalAmount) {
+        this.roomId = roomId;
+        this.roomName = roomName;
+        this.nights = nights;
+        this.totalAmount = totalAmount;
+    }
+
+    // Getters
+    public Long getRoomId() { return roomId; }
+
+    public String getRoomName() { return roomName; }
+
+    public long getNights() { return nights; }
+
+    public BigDecimal getTotalAmount() { return totalAmount; }
+}
\ No newline at end of file
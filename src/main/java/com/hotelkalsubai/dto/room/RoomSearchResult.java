@@ -0,0 +1,37 @@
+package com.hotelkalsubai.dto.room;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+public class RoomSearchResult {
+    private final List<RoomListing> rooms;
+    private final Map<String, Integer> typeCounts;
+    private final Map<Integer, Integer> occupancyCounts;
+    private final Map<String, Integer> amenityCounts;
+    private final BigDecimal minPrice;
+    private final BigDecimal maxPrice;
+
+    public RoomSearchResult(List<RoomListing> rooms, Map<String, Integer> typeCounts, Map<Integer, Integer> occupancyCounts,
+                            Map<String, Integer> amenityCounts, BigDecimal minPrice, BigDecimal maxPrice) {
+        this.rooms = rooms;
+        this.typeCounts = typeCounts;
+        this.occupancyCounts = occupancyCounts;
+        this.amenityCounts = amenityCounts;
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+    }
+
+    // Getters
+    public List<RoomListing> getRooms() { return rooms; }
+
+    public Map<String, Integer> getTypeCounts() { return typeCounts; }
+
+    public Map<Integer, Integer> getOccupancyCounts() { return occupancyCounts; }
+
+    public Map<String, Integer> getAmenityCounts() { return amenityCounts; }
+
+    public BigDecimal getMinPrice() { return minPrice; }
+
+    public BigDecimal getMaxPrice() { return maxPrice; }
+}
\ No newline at end of file
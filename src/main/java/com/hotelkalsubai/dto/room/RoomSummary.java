@@ -0,0 +1,26 @@
+package com.hotelkalsubai.dto.room;
+
+import java.math.BigDecimal;
+
+public class RoomSummary {
+    private final Long id;
+    private final String name;
+    private final String type;
+    private final BigDecimal pricePerNight;
+
+    public RoomSummary(Long id, String name, String type, BigDecimal pricePerNight) {
+        this.id = id;
+        this.name = name;
+        this.type = type;
+        this.pricePerNight = pricePerNight;
+    }
+
+    // Getters
+    public Long getId() { return id; }
+
+    public String getName() { return name; }
+
+    public String getType() { return type; }
+
+    public BigDecimal getPricePerNight() { return pricePerNight; }
+}
\ No newline at end of file
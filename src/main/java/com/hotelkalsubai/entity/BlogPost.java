@@ -9,7 +9,9 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "blog_posts")
+@Table(name = "blog_posts", indexes = {
+        @Index(name = "idx_blog_posts_published_created_at_id", columnList = "is_published, created_at, id")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class BlogPost {
     @Id
@@ -14,7 +14,10 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = {
+        @Index(name = "idx_bookings_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_bookings_guest_email_created_at_id", columnList = "guest_email, created_at, id")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class Booking {
     @Id
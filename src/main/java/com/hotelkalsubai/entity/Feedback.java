@@ -11,7 +11,9 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "feedback")
+@Table(name = "feedback", indexes = {
+        @Index(name = "idx_feedback_approved_submitted_at_id", columnList = "is_approved, submitted_at, id")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class Feedback {
     @Id
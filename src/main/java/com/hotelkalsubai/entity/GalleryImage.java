@@ -3,12 +3,16 @@ package com.hotelkalsubai.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "gallery_images")
+@Table(name = "gallery_images", indexes = {
+        @Index(name = "idx_gallery_images_uploaded_at_id", columnList = "uploaded_at, id"),
+        @Index(name = "idx_gallery_images_content_hash", columnList = "content_hash")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class GalleryImage {
     @Id
@@ -26,10 +30,21 @@ public class GalleryImage {
 
     private String description;
 
+    @Column(name = "content_hash", length = 64)
+    private String contentHash; // SHA-256 of uploaded files, null for external URLs
+
+    private Integer width;
+
+    private Integer height;
+
     @CreatedDate
     @Column(name = "uploaded_at", nullable = false, updatable = false)
     private LocalDateTime uploadedAt;
 
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
     // Constructors
     public GalleryImage() {}
 
@@ -55,6 +70,18 @@ public class GalleryImage {
     public String getDescription() { return description; }
     public void setDescription(String description) { this.description = description; }
 
+    public String getContentHash() { return contentHash; }
+    public void setContentHash(String contentHash) { this.contentHash = contentHash; }
+
+    public Integer getWidth() { return width; }
+    public void setWidth(Integer width) { this.width = width; }
+
+    public Integer getHeight() { return height; }
+    public void setHeight(Integer height) { this.height = height; }
+
     public LocalDateTime getUploadedAt() { return uploadedAt; }
     public void setUploadedAt(LocalDateTime uploadedAt) { this.uploadedAt = uploadedAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.hotelkalsubai.exception;
+
+public class PasswordHashingBusyException extends RuntimeException {
+    public PasswordHashingBusyException() {
+        super("Server is busy, please try again shortly");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.hotelkalsubai.repository;
+
+import com.hotelkalsubai.entity.AuthToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface AuthTokenRepository extends JpaRepository<AuthToken, Long> {
+    Optional<AuthToken> findByTokenHash(String tokenHash);
+    Optional<AuthToken> findFirstByUserIdAndPurposeOrderByIdDesc(Long userId, AuthToken.Purpose purpose);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE AuthToken t SET t.failedAttempts = t.failedAttempts + 1 WHERE t.id = :id")
+    int incrementFailedAttempts(@Param("id") Long id);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM AuthToken t WHERE t.id = :id AND t.failedAttempts >= :maxAttempts")
+    int deleteIfFailedAttemptsReached(@Param("id") Long id, @Param("maxAttempts") int maxAttempts);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM AuthToken t WHERE t.tokenHash = :tokenHash")
+    int deleteByTokenHash(@Param("tokenHash") String tokenHash);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM AuthToken t WHERE t.userId = :userId AND t.purpose = :purpose")
+    int deleteByUserIdAndPurpose(@Param("userId") Long userId, @Param("purpose") AuthToken.Purpose purpose);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM AuthToken t WHERE t.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
\ No newline at end of file
@@ -1,14 +1,28 @@
 package com.hotelkalsubai.repository;
 
+import com.hotelkalsubai.dto.CatalogStamp;
 import com.hotelkalsubai.entity.BlogPost;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface BlogPostRepository extends JpaRepository<BlogPost, Long> {
     List<BlogPost> findByIsPublishedTrueOrderByCreatedAtDesc();
     List<BlogPost> findByAuthor(String author);
-    List<BlogPost> findByTitleContainingIgnoreCase(String title);
+
+    @Query("SELECT new com.hotelkalsubai.dto.CatalogStamp(COUNT(p), MAX(p.updatedAt), COALESCE(SUM(p.id), 0L)) FROM BlogPost p")
+    CatalogStamp findCatalogStamp();
+
+    @Query("SELECT p FROM BlogPost p WHERE p.isPublished = true ORDER BY p.createdAt DESC, p.id DESC")
+    List<BlogPost> findLatestPublished(Pageable pageable);
+
+    @Query("SELECT p FROM BlogPost p WHERE p.isPublished = true AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<BlogPost> findLatestPublishedBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
 }
\ No newline at end of file
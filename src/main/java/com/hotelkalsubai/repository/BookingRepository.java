@@ -1,26 +1,100 @@
 package com.hotelkalsubai.repository;
 
+import com.hotelkalsubai.dto.booking.BookingSpan;
+import com.hotelkalsubai.dto.booking.BookingView;
+import com.hotelkalsubai.dto.report.BookingFact;
 import com.hotelkalsubai.entity.Booking;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
+    String BOOKING_VIEW = "SELECT new com.hotelkalsubai.dto.booking.BookingView(b.id, r.id, r.name, r.type, r.pricePerNight, " +
+            "b.guestName, b.guestPhone, b.guestEmail, b.checkInDate, b.checkOutDate, b.totalAmount, b.status, " +
+            "b.paymentStatus, b.paymentId, b.specialRequests, b.createdAt, b.updatedAt) FROM Booking b JOIN b.room r ";
+
     List<Booking> findByGuestEmail(String guestEmail);
     List<Booking> findByStatus(Booking.BookingStatus status);
     List<Booking> findByPaymentStatus(Booking.PaymentStatus paymentStatus);
     
-    @Query("SELECT b FROM Booking b WHERE b.room.id = :roomId AND b.status != 'CANCELLED' AND " +
-           "((b.checkInDate <= :checkOut AND b.checkOutDate >= :checkIn))")
-    List<Booking> findConflictingBookings(@Param("roomId") Long roomId, 
-                                         @Param("checkIn") LocalDate checkIn, 
-                                         @Param("checkOut") LocalDate checkOut);
+    @Query("SELECT CASE WHEN COUNT(b) > 0 THEN true ELSE false END FROM Booking b " +
+           "WHERE b.room.id = :roomId AND b.status != 'CANCELLED' AND " +
+           "b.checkInDate <= :checkOut AND b.checkOutDate >= :checkIn")
+    boolean existsConflictingBooking(@Param("roomId") Long roomId,
+                                     @Param("checkIn") LocalDate checkIn,
+                                     @Param("checkOut") LocalDate checkOut);
     
-    @Query("SELECT b FROM Booking b WHERE b.checkInDate >= :startDate AND b.checkInDate <= :endDate")
-    List<Booking> findBookingsByDateRange(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+    @Query(BOOKING_VIEW + "WHERE b.checkInDate >= :startDate AND b.checkInDate <= :endDate ORDER BY b.checkInDate, b.id")
+    List<BookingView> findViewsByDateRange(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate,
+                                           Pageable pageable);
+
+    @Query(BOOKING_VIEW + "WHERE b.checkInDate <= :endDate AND " +
+           "(b.checkInDate > :checkInDate OR (b.checkInDate = :checkInDate AND b.id > :id)) " +
+           "ORDER BY b.checkInDate, b.id")
+    List<BookingView> findViewsByDateRangeAfter(@Param("checkInDate") LocalDate checkInDate, @Param("id") Long id,
+                                                @Param("endDate") LocalDate endDate, Pageable pageable);
+
+    @Query("SELECT new com.hotelkalsubai.dto.booking.BookingSpan(b.id, b.room.id, b.checkInDate, b.checkOutDate) " +
+           "FROM Booking b WHERE b.status != 'CANCELLED' AND b.checkOutDate >= :from")
+    List<BookingSpan> findActiveSpansFrom(@Param("from") LocalDate from);
+
+    @Query("SELECT new com.hotelkalsubai.dto.booking.BookingSpan(b.id, b.room.id, b.checkInDate, b.checkOutDate) " +
+           "FROM Booking b WHERE b.status != 'CANCELLED' AND b.checkInDate <= :to AND b.checkOutDate >= :from")
+    List<BookingSpan> findActiveSpansForRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT new com.hotelkalsubai.dto.booking.BookingSpan(b.id, b.room.id, b.checkInDate, b.checkOutDate) " +
+           "FROM Booking b WHERE b.room.id IN :roomIds AND b.status != 'CANCELLED' AND " +
+           "b.checkInDate <= :to AND b.checkOutDate >= :from")
+    List<BookingSpan> findActiveSpansForRooms(@Param("roomIds") Collection<Long> roomIds,
+                                              @Param("from") LocalDate from,
+                                              @Param("to") LocalDate to);
+
+    @Query("SELECT new com.hotelkalsubai.dto.report.BookingFact(b.id, r.type, b.checkInDate, b.checkOutDate, " +
+           "b.totalAmount, b.status, b.paymentStatus) FROM Booking b JOIN b.room r")
+    List<BookingFact> findAllFacts();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT b FROM Booking b JOIN FETCH b.room ORDER BY b.id")
+    Stream<Booking> streamAllForExport();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT b FROM Booking b JOIN FETCH b.room " +
+           "WHERE b.checkInDate >= :startDate AND b.checkInDate <= :endDate ORDER BY b.id")
+    Stream<Booking> streamByDateRangeForExport(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query(BOOKING_VIEW + "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BookingView> findLatest(Pageable pageable);
+
+    @Query(BOOKING_VIEW + "WHERE (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id)) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BookingView> findLatestBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query(BOOKING_VIEW + "WHERE b.guestEmail = :guestEmail ORDER BY b.createdAt DESC, b.id DESC")
+    List<BookingView> findLatestByGuestEmail(@Param("guestEmail") String guestEmail, Pageable pageable);
+
+    @Query(BOOKING_VIEW + "WHERE b.guestEmail = :guestEmail AND " +
+           "(b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id)) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BookingView> findLatestByGuestEmailBefore(@Param("guestEmail") String guestEmail,
+                                                   @Param("createdAt") LocalDateTime createdAt,
+                                                   @Param("id") Long id,
+                                                   Pageable pageable);
 }
\ No newline at end of file
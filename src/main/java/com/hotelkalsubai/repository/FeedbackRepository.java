@@ -1,10 +1,15 @@
 package com.hotelkalsubai.repository;
 
+import com.hotelkalsubai.dto.CatalogStamp;
+import com.hotelkalsubai.dto.feedback.RatingFact;
 import com.hotelkalsubai.entity.Feedback;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -12,6 +17,17 @@ public interface FeedbackRepository extends JpaRepository<Feedback, Long> {
     List<Feedback> findByIsApprovedTrueOrderBySubmittedAtDesc();
     List<Feedback> findByIsApprovedFalseOrderBySubmittedAtDesc();
     
-    @Query("SELECT AVG(f.rating) FROM Feedback f WHERE f.isApproved = true")
-    Double findAverageRating();
+    @Query("SELECT new com.hotelkalsubai.dto.CatalogStamp(COUNT(f), MAX(f.submittedAt), COALESCE(SUM(f.id), 0L)) FROM Feedback f WHERE f.isApproved = true")
+    CatalogStamp findCatalogStamp();
+
+    @Query("SELECT f FROM Feedback f WHERE f.isApproved = true ORDER BY f.submittedAt DESC, f.id DESC")
+    List<Feedback> findLatestApproved(Pageable pageable);
+
+    @Query("SELECT f FROM Feedback f WHERE f.isApproved = true AND (f.submittedAt < :submittedAt OR (f.submittedAt = :submittedAt AND f.id < :id)) " +
+           "ORDER BY f.submittedAt DESC, f.id DESC")
+    List<Feedback> findLatestApprovedBefore(@Param("submittedAt") LocalDateTime submittedAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT new com.hotelkalsubai.dto.feedback.RatingFact(f.id, f.rating, f.submittedAt) " +
+           "FROM Feedback f WHERE f.isApproved = true")
+    List<RatingFact> findApprovedRatingFacts();
 }
\ No newline at end of file
@@ -1,13 +1,29 @@
 package com.hotelkalsubai.repository;
 
+import com.hotelkalsubai.dto.CatalogStamp;
 import com.hotelkalsubai.entity.GalleryImage;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface GalleryImageRepository extends JpaRepository<GalleryImage, Long> {
     List<GalleryImage> findByCategory(String category);
     List<GalleryImage> findAllByOrderByUploadedAtDesc();
+    long countByContentHash(String contentHash);
+
+    @Query("SELECT new com.hotelkalsubai.dto.CatalogStamp(COUNT(g), MAX(COALESCE(g.updatedAt, g.uploadedAt)), COALESCE(SUM(g.id), 0L)) FROM GalleryImage g")
+    CatalogStamp findCatalogStamp();
+
+    @Query("SELECT g FROM GalleryImage g ORDER BY g.uploadedAt DESC, g.id DESC")
+    List<GalleryImage> findLatest(Pageable pageable);
+
+    @Query("SELECT g FROM GalleryImage g WHERE (g.uploadedAt < :uploadedAt OR (g.uploadedAt = :uploadedAt AND g.id < :id)) " +
+           "ORDER BY g.uploadedAt DESC, g.id DESC")
+    List<GalleryImage> findLatestBefore(@Param("uploadedAt") LocalDateTime uploadedAt, @Param("id") Long id, Pageable pageable);
 }
\ No newline at end of file
@@ -1,7 +1,9 @@
 package com.hotelkalsubai.repository;
 
+import com.hotelkalsubai.dto.CatalogStamp;
 import com.hotelkalsubai.entity.MenuItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,4 +13,7 @@ public interface MenuItemRepository extends JpaRepository<MenuItem, Long> {
     List<MenuItem> findByCategory(String category);
     List<MenuItem> findByIsAvailableTrue();
     List<MenuItem> findByCategoryAndIsAvailableTrue(String category);
+
+    @Query("SELECT new com.hotelkalsubai.dto.CatalogStamp(COUNT(m), MAX(m.updatedAt), COALESCE(SUM(m.id), 0L)) FROM MenuItem m")
+    CatalogStamp findCatalogStamp();
 }
\ No newline at end of file
@@ -1,13 +1,17 @@
 package com.hotelkalsubai.repository;
 
+import com.hotelkalsubai.dto.CatalogStamp;
 import com.hotelkalsubai.entity.Room;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface RoomRepository extends JpaRepository<Room, Long> {
@@ -18,4 +22,11 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
            "(SELECT b.room.id FROM Booking b WHERE b.status != 'CANCELLED' AND " +
            "((b.checkInDate <= :checkOut AND b.checkOutDate >= :checkIn)))")
     List<Room> findAvailableRooms(@Param("checkIn") LocalDate checkIn, @Param("checkOut") LocalDate checkOut);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Room r WHERE r.id = :id")
+    Optional<Room> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("SELECT new com.hotelkalsubai.dto.CatalogStamp(COUNT(r), MAX(r.updatedAt), COALESCE(SUM(r.id), 0L)) FROM Room r")
+    CatalogStamp findCatalogStamp();
 }
\ No newline at end of file
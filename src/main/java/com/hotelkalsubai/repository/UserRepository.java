@@ -1,19 +1,42 @@
 package com.hotelkalsubai.repository;
 
+import com.hotelkalsubai.dto.admin.UserRole;
+import com.hotelkalsubai.dto.admin.UserView;
 import com.hotelkalsubai.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+    String USER_VIEW = "SELECT new com.hotelkalsubai.dto.admin.UserView(u.id, u.username, u.email, u.phoneNumber, " +
+            "u.isEmailVerified, u.isPhoneVerified, u.createdAt, u.updatedAt) FROM User u ";
+
     Optional<User> findByUsername(String username);
     Optional<User> findByEmail(String email);
     Optional<User> findByPhoneNumber(String phoneNumber);
     Optional<User> findByGoogleId(String googleId);
     Optional<User> findByFacebookId(String facebookId);
-    Optional<User> findByResetToken(String resetToken);
     Boolean existsByUsername(String username);
     Boolean existsByEmail(String email);
+
+    @Query("SELECT COALESCE(u.tokenVersion, 0) FROM User u WHERE u.id = :id")
+    Optional<Integer> findTokenVersionById(@Param("id") Long id);
+
+    @Query(USER_VIEW + "ORDER BY u.createdAt DESC, u.id DESC")
+    List<UserView> findLatest(Pageable pageable);
+
+    @Query(USER_VIEW + "WHERE (u.createdAt < :createdAt OR (u.createdAt = :createdAt AND u.id < :id)) " +
+           "ORDER BY u.createdAt DESC, u.id DESC")
+    List<UserView> findLatestBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT new com.hotelkalsubai.dto.admin.UserRole(u.id, r) FROM User u JOIN u.roles r WHERE u.id IN :ids")
+    List<UserRole> findRolesByUserIds(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.hotelkalsubai.security;
+
+import com.hotelkalsubai.config.RateLimitProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+@Component
+public class ClientAddressResolver {
+
+    @Autowired
+    private RateLimitProperties properties;
+
+    /**
+     * Returns the client's address, taken from X-Forwarded-For only when the proxies in front are
+     * trusted. Entries are counted from the right, since everything left of the ones the trusted
+     * proxies appended is whatever the client chose to send.
+     */
+    public String resolve(HttpServletRequest request) {
+        if (properties.isTrustForwardedFor()) {
+            String forwardedFor = request.getHeader("X-Forwarded-For");
+            if (StringUtils.hasText(forwardedFor)) {
+                String[] hops = forwardedFor.split(",");
+                int index = Math.max(0, hops.length - Math.max(1, properties.getTrustedProxyHops()));
+                String address = hops[index].trim();
+                if (!address.isEmpty()) {
+                    return address;
+                }
+            }
+        }
+        return request.getRemoteAddr();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,107 @@
+package com.hotelkalsubai.security;
+
+import com.hotelkalsubai.exception.PasswordHashingBusyException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs a slow password encoder (BCrypt) on its own bounded pool instead of on request threads.
+ * When every hashing thread is busy and the queue is full, callers fail fast with
+ * PasswordHashingBusyException rather than piling up behind the burst.
+ */
+public class PooledPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+
+    private final LongAdder encodeCount = new LongAdder();
+    private final LongAdder encodeNanos = new LongAdder();
+    private final LongAdder matchesCount = new LongAdder();
+    private final LongAdder matchesNanos = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+
+    public PooledPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity) {
+        this.delegate = delegate;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword), encodeCount, encodeNanos);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> delegate.matches(rawPassword, encodedPassword), matchesCount, matchesNanos);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public int getThreads() { return executor.getMaximumPoolSize(); }
+
+    public int getActiveCount() { return executor.getActiveCount(); }
+
+    public int getQueueDepth() { return executor.getQueue().size(); }
+
+    public int getQueueCapacity() { return executor.getQueue().size() + executor.getQueue().remainingCapacity(); }
+
+    public long getEncodeCount() { return encodeCount.sum(); }
+
+    public long getEncodeNanos() { return encodeNanos.sum(); }
+
+    public long getMatchesCount() { return matchesCount.sum(); }
+
+    public long getMatchesNanos() { return matchesNanos.sum(); }
+
+    public long getRejectedCount() { return rejectedCount.sum(); }
+
+    private <T> T submit(Supplier<T> work, LongAdder count, LongAdder nanos) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    return work.get();
+                } finally {
+                    nanos.add(System.nanoTime() - start);
+                    count.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            throw new PasswordHashingBusyException();
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,177 @@
+package com.hotelkalsubai.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotelkalsubai.config.RateLimitProperties;
+import com.hotelkalsubai.dto.ApiResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.*;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rejects requests to expensive unauthenticated endpoints once a client address or account
+ * exceeds its rule, before authentication or any controller work runs.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+    @Autowired
+    private RateLimitProperties properties;
+
+    @Autowired
+    private RateLimiter rateLimiter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ClientAddressResolver clientAddressResolver;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RateLimitProperties.Rule rule = properties.isEnabled() ? findRule(request) : null;
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (rule.getIpLimit() > 0) {
+            long wait = rateLimiter.tryAcquire(rule.getName() + "|ip|" + clientAddressResolver.resolve(request), rule.getIpLimit(), rule.getPeriod());
+            if (wait > 0) {
+                reject(response, wait);
+                return;
+            }
+        }
+
+        HttpServletRequest forwarded = request;
+        if (rule.getAccountLimit() > 0 && StringUtils.hasText(rule.getAccountField())) {
+            BufferedBodyRequest buffered = new BufferedBodyRequest(request, properties.getMaxBodyBytes());
+            forwarded = buffered;
+            String account = buffered.readAccount(objectMapper, rule.getAccountField());
+            if (account != null) {
+                long wait = rateLimiter.tryAcquire(rule.getName() + "|account|" + account, rule.getAccountLimit(), rule.getPeriod());
+                if (wait > 0) {
+                    reject(response, wait);
+                    return;
+                }
+            }
+        }
+
+        filterChain.doFilter(forwarded, response);
+    }
+
+    private RateLimitProperties.Rule findRule(HttpServletRequest request) {
+        String path = request.getServletPath();
+        for (RateLimitProperties.Rule rule : properties.getRules()) {
+            if (rule.getPath().equals(path) && rule.getMethod().equalsIgnoreCase(request.getMethod())) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error("Too many requests, please try again later"));
+    }
+
+    /**
+     * Reads up to maxBytes of the body to find the account, then replays those bytes
+     * followed by whatever remains of the original stream.
+     */
+    private static class BufferedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] prefix;
+        private final boolean complete;
+        private final ServletInputStream replay;
+
+        BufferedBodyRequest(HttpServletRequest request, int maxBytes) throws IOException {
+            super(request);
+            ServletInputStream original = request.getInputStream();
+            this.prefix = original.readNBytes(maxBytes);
+            this.complete = prefix.length < maxBytes || original.isFinished();
+            this.replay = new ReplayInputStream(new SequenceInputStream(new ByteArrayInputStream(prefix), original));
+        }
+
+        String readAccount(ObjectMapper objectMapper, String field) {
+            if (!complete || prefix.length == 0) {
+                return null;
+            }
+            try {
+                JsonNode value = objectMapper.readTree(prefix).get(field);
+                if (value == null || !value.isTextual() || value.asText().isBlank()) {
+                    return null;
+                }
+                return value.asText().trim().toLowerCase(Locale.ROOT);
+            } catch (IOException e) {
+                // Malformed bodies are left for request binding to reject
+                return null;
+            }
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            return replay;
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+
+    private static class ReplayInputStream extends ServletInputStream {
+        private final InputStream source;
+        private boolean finished;
+
+        ReplayInputStream(InputStream source) {
+            this.source = source;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = source.read();
+            finished = b == -1;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int count = source.read(buffer, offset, length);
+            finished = count == -1;
+            return count;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return finished;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
\ No newline at end of file
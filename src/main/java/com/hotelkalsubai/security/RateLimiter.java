@@ -0,0 +1,66 @@
+package com.hotelkalsubai.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hotelkalsubai.config.RateLimitProperties;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets keyed by rule and client address or account. Each bucket is a single
+ * AtomicLong holding its theoretical arrival time (GCRA), so acquiring is one CAS loop.
+ * Buckets live in a bounded map and are dropped once idle, by which time they would be full again.
+ */
+@Component
+public class RateLimiter {
+
+    @Autowired
+    private RateLimitProperties properties;
+
+    private Cache<String, AtomicLong> buckets;
+
+    @PostConstruct
+    public void init() {
+        Duration idleTimeout = properties.getIdleTimeout();
+        for (RateLimitProperties.Rule rule : properties.getRules()) {
+            if (rule.getPeriod().compareTo(idleTimeout) > 0) {
+                idleTimeout = rule.getPeriod();
+            }
+        }
+        buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxKeys())
+                .expireAfterAccess(idleTimeout)
+                .build();
+    }
+
+    /**
+     * Takes one token from the bucket that allows {@code limit} requests per {@code period}
+     * with bursts up to {@code limit}. Returns 0 when allowed, otherwise the nanoseconds until a token is available.
+     */
+    public long tryAcquire(String key, int limit, Duration period) {
+        long interval = period.toNanos() / limit;
+        long burstTolerance = interval * (limit - 1);
+        AtomicLong bucket = buckets.get(key, k -> new AtomicLong(Long.MIN_VALUE));
+
+        while (true) {
+            long now = System.nanoTime();
+            long arrival = bucket.get();
+            long start = arrival == Long.MIN_VALUE || arrival - now < 0 ? now : arrival;
+            long wait = start - now - burstTolerance;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(arrival, start + interval)) {
+                return 0;
+            }
+        }
+    }
+
+    public long getTrackedKeys() {
+        return buckets.estimatedSize();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.hotelkalsubai.security;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.hotelkalsubai.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Current token version per user. Tokens carry the version they were issued with, and bumping
+ * User.tokenVersion revokes every earlier token. Versions are cached so authenticated requests
+ * do not read the users table; callers that bump a version or delete a user must invalidate it.
+ */
+@Component
+public class TokenVersions {
+
+    // Cached for users that no longer exist, so their tokens are rejected without a query
+    private static final int NO_USER = -1;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${app.jwt.version-cache-size:10000}")
+    private long cacheSize;
+
+    @Value("${app.jwt.version-cache-ttl-seconds:300}")
+    private long cacheTtlSeconds;
+
+    private LoadingCache<Long, Integer> versions;
+
+    @PostConstruct
+    public void init() {
+        versions = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .recordStats()
+                .build(userId -> userRepository.findTokenVersionById(userId).orElse(NO_USER));
+    }
+
+    public boolean isCurrent(Long userId, int tokenVersion) {
+        Integer current = versions.get(userId);
+        return current != null && current != NO_USER && current == tokenVersion;
+    }
+
+    public void invalidate(Long userId) {
+        versions.invalidate(userId);
+    }
+
+    public LoadingCache<Long, Integer> getCache() {
+        return versions;
+    }
+}
\ No newline at end of file
@@ -23,13 +23,21 @@ public class UserDetailsImpl implements UserDetails {
 
     private Collection<? extends GrantedAuthority> authorities;
 
+    private int tokenVersion;
+
     public UserDetailsImpl(Long id, String username, String email, String password,
                           Collection<? extends GrantedAuthority> authorities) {
+        this(id, username, email, password, authorities, 0);
+    }
+
+    public UserDetailsImpl(Long id, String username, String email, String password,
+                          Collection<? extends GrantedAuthority> authorities, int tokenVersion) {
         this.id = id;
         this.username = username;
         this.email = email;
         this.password = password;
         this.authorities = authorities;
+        this.tokenVersion = tokenVersion;
     }
 
     public static UserDetailsImpl build(User user) {
@@ -42,7 +50,8 @@ public class UserDetailsImpl implements UserDetails {
                 user.getUsername(),
                 user.getEmail(),
                 user.getPassword(),
-                authorities);
+                authorities,
+                user.getTokenVersion() != null ? user.getTokenVersion() : 0);
     }
 
     @Override
@@ -58,6 +67,10 @@ public class UserDetailsImpl implements UserDetails {
         return email;
     }
 
+    public int getTokenVersion() {
+        return tokenVersion;
+    }
+
     @Override
     public String getPassword() {
         return password;
@@ -1,26 +1,90 @@
 package com.hotelkalsubai.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.hotelkalsubai.entity.User;
 import com.hotelkalsubai.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
 
 @Service
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
     @Autowired
     UserRepository userRepository;
 
+    @Value("${app.security.user-details-cache-size:10000}")
+    private long cacheSize;
+
+    @Value("${app.security.user-details-cache-ttl-seconds:600}")
+    private long cacheTtlSeconds;
+
+    // Each user is cached under both the email and the username, since either one signs in.
+    // UserDetailsImpl is not a CredentialsContainer, so authentication never erases the cached password.
+    private Cache<String, UserDetailsImpl> userDetailsCache;
+
+    @PostConstruct
+    public void init() {
+        userDetailsCache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .recordStats()
+                .build();
+    }
+
     @Override
-    @Transactional
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        UserDetailsImpl cached = userDetailsCache.getIfPresent(username);
+        if (cached != null) {
+            return cached;
+        }
+
         User user = userRepository.findByEmail(username)
                 .orElseGet(() -> userRepository.findByUsername(username)
                         .orElseThrow(() -> new UsernameNotFoundException("User Not Found: " + username)));
 
-        return UserDetailsImpl.build(user);
+        UserDetailsImpl userDetails = UserDetailsImpl.build(user);
+        cache(user.getEmail(), userDetails);
+        cache(user.getUsername(), userDetails);
+        return userDetails;
+    }
+
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findById(((UserDetailsImpl) userDetails).getId())
+                .orElseThrow(() -> new UsernameNotFoundException("User Not Found: " + userDetails.getUsername()));
+        user.setPassword(newPassword);
+        User savedUser = userRepository.save(user);
+        evict(savedUser);
+        return UserDetailsImpl.build(savedUser);
+    }
+
+    /**
+     * Drops the cached details of a user whose password, roles or existence changed.
+     */
+    public void evict(User user) {
+        if (user.getEmail() != null) {
+            userDetailsCache.invalidate(user.getEmail());
+        }
+        if (user.getUsername() != null) {
+            userDetailsCache.invalidate(user.getUsername());
+        }
+    }
+
+    public Cache<String, UserDetailsImpl> getCache() {
+        return userDetailsCache;
+    }
+
+    private void cache(String key, UserDetailsImpl userDetails) {
+        if (key != null) {
+            userDetailsCache.put(key, userDetails);
+        }
     }
 }
\ No newline at end of file
@@ -1,16 +1,19 @@
 package com.hotelkalsubai.service;
 
 import com.hotelkalsubai.dto.auth.JwtResponse;
+import com.hotelkalsubai.entity.AuthToken;
 import com.hotelkalsubai.entity.User;
 import com.hotelkalsubai.repository.UserRepository;
 import com.hotelkalsubai.security.JwtUtils;
 import com.hotelkalsubai.security.UserDetailsImpl;
+import com.hotelkalsubai.security.UserDetailsServiceImpl;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -27,12 +30,18 @@ public class AuthService {
     @Autowired
     private JwtUtils jwtUtils;
 
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+
     @Autowired
     private EmailService emailService;
 
     @Autowired
     private SmsService smsService;
 
+    @Autowired
+    private AuthTokenStore authTokenStore;
+
     public void sendPasswordResetEmail(String email) {
         Optional<User> userOpt = userRepository.findByEmail(email);
         if (userOpt.isEmpty()) {
@@ -41,29 +50,37 @@ public class AuthService {
 
         User user = userOpt.get();
         String resetToken = generateResetToken();
-        user.setResetToken(resetToken);
-        user.setResetTokenExpiry(LocalDateTime.now().plusHours(1));
-        userRepository.save(user);
+        authTokenStore.issue(AuthToken.Purpose.PASSWORD_RESET, user.getId(), resetToken, Duration.ofHours(1));
 
         String resetLink = "http://localhost:3000/reset-password?token=" + resetToken;
         emailService.sendPasswordResetEmail(email, resetLink);
     }
 
     public void resetPassword(String token, String newPassword) {
-        Optional<User> userOpt = userRepository.findByResetToken(token);
-        if (userOpt.isEmpty()) {
+        Optional<AuthTokenStore.StoredToken> resetToken = authTokenStore.find(AuthToken.Purpose.PASSWORD_RESET, token);
+        if (resetToken.isEmpty()) {
             throw new RuntimeException("Invalid reset token");
         }
 
-        User user = userOpt.get();
-        if (user.getResetTokenExpiry().isBefore(LocalDateTime.now())) {
+        if (resetToken.get().isExpired(LocalDateTime.now())) {
             throw new RuntimeException("Reset token has expired");
         }
 
-        user.setPassword(passwordEncoder.encode(newPassword));
-        user.setResetToken(null);
-        user.setResetTokenExpiry(null);
+        Optional<User> userOpt = userRepository.findById(resetToken.get().getUserId());
+        if (userOpt.isEmpty()) {
+            throw new RuntimeException("Invalid reset token");
+        }
+
+        // Hashed only once the token checks out, and before it is consumed so a busy hashing pool leaves it usable for a retry
+        String encodedPassword = passwordEncoder.encode(newPassword);
+        if (authTokenStore.consume(AuthToken.Purpose.PASSWORD_RESET, token).isEmpty()) {
+            throw new RuntimeException("Invalid reset token");
+        }
+
+        User user = userOpt.get();
+        user.setPassword(encodedPassword);
         userRepository.save(user);
+        userDetailsService.evict(user);
     }
 
     public void sendMobileOtp(String phoneNumber) {
@@ -75,9 +92,7 @@ public class AuthService {
         String otpCode = generateOtpCode();
         User user = userOpt.get();
 
-        user.setOtpCode(otpCode);
-        user.setOtpExpiry(LocalDateTime.now().plusMinutes(5));
-        userRepository.save(user);
+        authTokenStore.issue(AuthToken.Purpose.PHONE_OTP, user.getId(), otpSecret(user, otpCode), Duration.ofMinutes(5));
 
         smsService.sendOtp(phoneNumber, otpCode);
     }
@@ -89,18 +104,24 @@ public class AuthService {
         }
 
         User user = userOpt.get();
-        if (user.getOtpCode() == null || !user.getOtpCode().equals(otpCode)) {
+        String secret = otpSecret(user, otpCode);
+        Optional<AuthTokenStore.StoredToken> otp = authTokenStore.verify(AuthToken.Purpose.PHONE_OTP, user.getId(), secret);
+        if (otp.isEmpty()) {
             throw new RuntimeException("Invalid OTP");
         }
 
-        if (user.getOtpExpiry().isBefore(LocalDateTime.now())) {
+        if (otp.get().isExpired(LocalDateTime.now())) {
             throw new RuntimeException("OTP expired");
         }
 
-        user.setPassword(passwordEncoder.encode(newPassword));
-        user.setOtpCode(null);
-        user.setOtpExpiry(null);
+        String encodedPassword = passwordEncoder.encode(newPassword);
+        if (authTokenStore.consume(AuthToken.Purpose.PHONE_OTP, secret).isEmpty()) {
+            throw new RuntimeException("Invalid OTP");
+        }
+
+        user.setPassword(encodedPassword);
         userRepository.save(user);
+        userDetailsService.evict(user);
     }
 
     public JwtResponse authenticateWithGoogle(String token) {
@@ -165,6 +186,11 @@ public class AuthService {
         return String.format("%06d", new Random().nextInt(1_000_000));
     }
 
+    // Codes are only six digits, so they are stored bound to the user they were sent to and checked with an attempt limit
+    private String otpSecret(User user, String otpCode) {
+        return user.getId() + ":" + otpCode;
+    }
+
     private GoogleUserInfo verifyGoogleToken(String token) {
         return new GoogleUserInfo("google_123", "user@gmail.com", "Google User");
     }
@@ -205,4 +231,4 @@ public class AuthService {
         public String getEmail() { return email; }
         public String getName() { return name; }
     }
-}
+}
\ No newline at end of file
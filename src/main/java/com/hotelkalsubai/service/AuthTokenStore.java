@@ -0,0 +1,189 @@
+package com.hotelkalsubai.service;
+
+import com.hotelkalsubai.entity.AuthToken;
+import com.hotelkalsubai.repository.AuthTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Short-lived single-use tokens (password reset links, phone OTPs), kept apart from the users table.
+ * Only a SHA-256 of each token is held. With persistence on, the default, tokens live only in
+ * auth_tokens so they survive restarts and are shared between instances; the in-memory maps are a
+ * fallback for single-instance setups that turn persistence off. Issuing a token revokes the
+ * user's earlier token for the same purpose.
+ */
+@Service
+public class AuthTokenStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuthTokenStore.class);
+
+    @Autowired
+    private AuthTokenRepository authTokenRepository;
+
+    @Value("${app.auth-tokens.persist:true}")
+    private boolean persist;
+
+    @Value("${app.auth-tokens.max-attempts:5}")
+    private int maxAttempts;
+
+    // Only used when persistence is off
+    private final Map<String, StoredToken> tokensByHash = new ConcurrentHashMap<>();
+    private final Map<String, String> hashByUser = new ConcurrentHashMap<>();
+
+    public void issue(AuthToken.Purpose purpose, Long userId, String secret, Duration ttl) {
+        String tokenHash = hash(purpose, secret);
+        StoredToken token = new StoredToken(userId, purpose, LocalDateTime.now().plus(ttl));
+
+        if (persist) {
+            authTokenRepository.deleteByUserIdAndPurpose(userId, purpose);
+            authTokenRepository.save(new AuthToken(tokenHash, userId, purpose, token.getExpiresAt()));
+            return;
+        }
+
+        String previousHash = hashByUser.put(userKey(purpose, userId), tokenHash);
+        if (previousHash != null) {
+            tokensByHash.remove(previousHash);
+        }
+        tokensByHash.put(tokenHash, token);
+    }
+
+    /**
+     * Returns the token, expired or not, without using it up, so callers can check a request
+     * before doing expensive work for it.
+     */
+    public Optional<StoredToken> find(AuthToken.Purpose purpose, String secret) {
+        String tokenHash = hash(purpose, secret);
+        if (!persist) {
+            return Optional.ofNullable(tokensByHash.get(tokenHash));
+        }
+        return authTokenRepository.findByTokenHash(tokenHash)
+                .filter(authToken -> authToken.getPurpose() == purpose)
+                .map(authToken -> new StoredToken(authToken.getUserId(), purpose, authToken.getExpiresAt()));
+    }
+
+    /**
+     * Checks a secret against the user's outstanding token for the purpose and returns the token,
+     * expired or not, without using it up. Every mismatch counts against the token and it is
+     * revoked after maxAttempts of them, so short secrets such as OTPs cannot be guessed.
+     */
+    public Optional<StoredToken> verify(AuthToken.Purpose purpose, Long userId, String secret) {
+        String tokenHash = hash(purpose, secret);
+        if (!persist) {
+            String currentHash = hashByUser.get(userKey(purpose, userId));
+            StoredToken token = currentHash != null ? tokensByHash.get(currentHash) : null;
+            if (token == null) {
+                return Optional.empty();
+            }
+            if (currentHash.equals(tokenHash)) {
+                return Optional.of(token);
+            }
+            if (token.failedAttempts.incrementAndGet() >= maxAttempts && tokensByHash.remove(currentHash, token)) {
+                hashByUser.remove(userKey(purpose, userId), currentHash);
+            }
+            return Optional.empty();
+        }
+
+        Optional<AuthToken> current = authTokenRepository.findFirstByUserIdAndPurposeOrderByIdDesc(userId, purpose);
+        if (current.isEmpty()) {
+            return Optional.empty();
+        }
+        AuthToken authToken = current.get();
+        if (authToken.getTokenHash().equals(tokenHash)) {
+            return Optional.of(new StoredToken(userId, purpose, authToken.getExpiresAt()));
+        }
+        authTokenRepository.incrementFailedAttempts(authToken.getId());
+        authTokenRepository.deleteIfFailedAttemptsReached(authToken.getId(), maxAttempts);
+        return Optional.empty();
+    }
+
+    /**
+     * Removes and returns the token, expired or not, so that it can be used only once.
+     * With persistence on, only the caller whose delete removes the row gets the token,
+     * whichever instance issued it.
+     */
+    public Optional<StoredToken> consume(AuthToken.Purpose purpose, String secret) {
+        String tokenHash = hash(purpose, secret);
+        if (!persist) {
+            StoredToken token = tokensByHash.remove(tokenHash);
+            if (token != null) {
+                hashByUser.remove(userKey(purpose, token.getUserId()), tokenHash);
+            }
+            return Optional.ofNullable(token);
+        }
+
+        return find(purpose, secret).filter(token -> authTokenRepository.deleteByTokenHash(tokenHash) > 0);
+    }
+
+    @Scheduled(fixedDelayString = "${app.auth-tokens.purge-interval-ms:300000}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        if (persist) {
+            int purged = authTokenRepository.deleteExpired(now);
+            if (purged > 0) {
+                logger.debug("Purged {} expired auth token(s)", purged);
+            }
+            return;
+        }
+        tokensByHash.entrySet().removeIf(entry -> {
+            StoredToken token = entry.getValue();
+            if (token.isExpired(now)) {
+                hashByUser.remove(userKey(token.getPurpose(), token.getUserId()), entry.getKey());
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private static String userKey(AuthToken.Purpose purpose, Long userId) {
+        return purpose + ":" + userId;
+    }
+
+    private static String hash(AuthToken.Purpose purpose, String secret) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest((purpose + ":" + secret).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static class StoredToken {
+        private final Long userId;
+        private final AuthToken.Purpose purpose;
+        private final LocalDateTime expiresAt;
+        // Only tracked here when persistence is off, otherwise in the token row
+        private final AtomicInteger failedAttempts = new AtomicInteger();
+
+        StoredToken(Long userId, AuthToken.Purpose purpose, LocalDateTime expiresAt) {
+            this.userId = userId;
+            this.purpose = purpose;
+            this.expiresAt = expiresAt;
+        }
+
+        public boolean isExpired(LocalDateTime now) {
+            return expiresAt.isBefore(now);
+        }
+
+        // Getters
+        public Long getUserId() { return userId; }
+
+        public AuthToken.Purpose getPurpose() { return purpose; }
+
+        public LocalDateTime getExpiresAt() { return expiresAt; }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,258 @@
+package com.hotelkalsubai.service;
+
+import com.hotelkalsubai.dto.booking.BookingSpan;
+import com.hotelkalsubai.entity.Booking;
+import com.hotelkalsubai.repository.BookingRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory index of occupied dates per room over a rolling horizon starting today.
+ * A date is occupied when it falls between a non-cancelled booking's check-in and
+ * check-out dates (both inclusive), matching RoomRepository.findAvailableRooms.
+ * Each room also keeps its occupied intervals without the horizon limit, so single-room
+ * conflict checks for any future stay are answered without a query.
+ */
+@Component
+public class AvailabilityIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(AvailabilityIndex.class);
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Value("${app.availability.horizon-days:400}")
+    private int horizonDays;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, RoomCalendar> calendars = new HashMap<>();
+    private long originDay;
+    private boolean ready;
+
+    // Changes recorded while a rebuild is reading from the database, replayed onto the fresh calendars
+    private List<BookingChange> pendingChanges;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    @Scheduled(cron = "${app.availability.verify-cron:0 15 3 * * *}")
+    public void verify() {
+        rebuild();
+    }
+
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long newOriginDay = LocalDate.now().toEpochDay();
+        Map<Long, RoomCalendar> fresh = new HashMap<>();
+        try {
+            for (BookingSpan span : bookingRepository.findActiveSpansFrom(LocalDate.ofEpochDay(newOriginDay))) {
+                fresh.computeIfAbsent(span.getRoomId(), id -> new RoomCalendar()).add(span, newOriginDay, horizonDays);
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (BookingChange change : pendingChanges) {
+                change.applyTo(fresh, newOriginDay, horizonDays);
+            }
+            pendingChanges = null;
+
+            if (ready) {
+                int drifted = countDriftedRooms(fresh, newOriginDay);
+                if (drifted > 0) {
+                    logger.warn("Availability index drifted from the database for {} room(s), resynchronized", drifted);
+                }
+            }
+
+            calendars.clear();
+            calendars.putAll(fresh);
+            originDay = newOriginDay;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.debug("Availability index rebuilt for {} room(s) from {}", fresh.size(), LocalDate.ofEpochDay(newOriginDay));
+    }
+
+    /**
+     * Returns the ids of rooms with at least one occupied date in [checkIn, checkOut],
+     * or empty when the range is not covered by the index and the caller must ask the database.
+     */
+    public Optional<Set<Long>> findOccupiedRoomIds(LocalDate checkIn, LocalDate checkOut) {
+        lock.readLock().lock();
+        try {
+            if (!covers(checkIn, checkOut)) {
+                return Optional.empty();
+            }
+            int from = (int) (checkIn.toEpochDay() - originDay);
+            int to = (int) (checkOut.toEpochDay() - originDay);
+            Set<Long> occupied = new HashSet<>();
+            calendars.forEach((roomId, calendar) -> {
+                if (!calendar.isFree(from, to)) {
+                    occupied.add(roomId);
+                }
+            });
+            return Optional.of(occupied);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns whether a non-cancelled booking of the room overlaps [checkIn, checkOut],
+     * or empty when bookings that could overlap the range are not loaded.
+     */
+    public Optional<Boolean> hasConflict(Long roomId, LocalDate checkIn, LocalDate checkOut) {
+        lock.readLock().lock();
+        try {
+            if (!ready || checkOut.isBefore(checkIn) || checkIn.toEpochDay() < originDay) {
+                return Optional.empty();
+            }
+            RoomCalendar calendar = calendars.get(roomId);
+            return Optional.of(calendar != null && calendar.overlaps(checkIn, checkOut));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void recordBooking(Booking booking) {
+        boolean active = booking.getStatus() != Booking.BookingStatus.CANCELLED;
+        BookingChange change = new BookingChange(BookingSpan.of(booking), active);
+
+        lock.writeLock().lock();
+        try {
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+            if (ready) {
+                change.applyTo(calendars, originDay, horizonDays);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean covers(LocalDate checkIn, LocalDate checkOut) {
+        return ready
+                && !checkOut.isBefore(checkIn)
+                && checkIn.toEpochDay() >= originDay
+                && checkOut.toEpochDay() < originDay + horizonDays;
+    }
+
+    private int countDriftedRooms(Map<Long, RoomCalendar> fresh, long newOriginDay) {
+        long shift = newOriginDay - originDay;
+        if (shift < 0 || shift >= horizonDays) {
+            return 0;
+        }
+
+        Set<Long> roomIds = new HashSet<>(calendars.keySet());
+        roomIds.addAll(fresh.keySet());
+
+        int drifted = 0;
+        for (Long roomId : roomIds) {
+            BitSet current = occupiedDates(calendars.get(roomId)).get((int) shift, horizonDays);
+            BitSet rebuilt = occupiedDates(fresh.get(roomId)).get(0, horizonDays - (int) shift);
+            if (!current.equals(rebuilt)) {
+                drifted++;
+            }
+        }
+        return drifted;
+    }
+
+    private static BitSet occupiedDates(RoomCalendar calendar) {
+        return calendar != null ? calendar.occupied : new BitSet();
+    }
+
+    private static class RoomCalendar {
+        private final Map<Long, BookingSpan> spans = new HashMap<>();
+        private final BitSet occupied = new BitSet();
+        private final OccupiedIntervals intervals = new OccupiedIntervals();
+
+        void add(BookingSpan span, long originDay, int horizonDays) {
+            BookingSpan previous = spans.put(span.getBookingId(), span);
+            if (previous != null) {
+                remark(originDay, horizonDays);
+            } else {
+                mark(span, originDay, horizonDays);
+            }
+        }
+
+        void remove(Long bookingId, long originDay, int horizonDays) {
+            if (spans.remove(bookingId) != null) {
+                remark(originDay, horizonDays);
+            }
+        }
+
+        boolean isFree(int from, int to) {
+            int next = occupied.nextSetBit(from);
+            return next == -1 || next > to;
+        }
+
+        boolean overlaps(LocalDate checkIn, LocalDate checkOut) {
+            return intervals.overlaps(checkIn.toEpochDay(), checkOut.toEpochDay());
+        }
+
+        private void remark(long originDay, int horizonDays) {
+            occupied.clear();
+            intervals.clear();
+            spans.values().forEach(span -> mark(span, originDay, horizonDays));
+        }
+
+        private void mark(BookingSpan span, long originDay, int horizonDays) {
+            intervals.add(span.getCheckInDate().toEpochDay(), span.getCheckOutDate().toEpochDay());
+
+            long from = Math.max(0, span.getCheckInDate().toEpochDay() - originDay);
+            long to = Math.min(horizonDays - 1, span.getCheckOutDate().toEpochDay() - originDay);
+            if (to >= from) {
+                occupied.set((int) from, (int) to + 1);
+            }
+        }
+    }
+
+    private static class BookingChange {
+        private final BookingSpan span;
+        private final boolean active;
+
+        BookingChange(BookingSpan span, boolean active) {
+            this.span = span;
+            this.active = active;
+        }
+
+        void applyTo(Map<Long, RoomCalendar> calendars, long originDay, int horizonDays) {
+            if (active) {
+                calendars.computeIfAbsent(span.getRoomId(), id -> new RoomCalendar()).add(span, originDay, horizonDays);
+            } else {
+                RoomCalendar calendar = calendars.get(span.getRoomId());
+                if (calendar != null) {
+                    calendar.remove(span.getBookingId(), originDay, horizonDays);
+                }
+            }
+        }
+    }
+}
\ No newline at end of file
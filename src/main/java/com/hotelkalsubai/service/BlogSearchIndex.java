@@ -0,0 +1,197 @@
+package com.hotelkalsubai.service;
+
+import com.hotelkalsubai.dto.blog.BlogSearchResult;
+import com.hotelkalsubai.entity.BlogPost;
+import com.hotelkalsubai.repository.BlogPostRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over published blog posts, ranked with BM25. Title and excerpt
+ * terms count more than content terms, and terms are lowercased and lightly stemmed.
+ */
+@Component
+public class BlogSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_WEIGHT = 3;
+    private static final int EXCERPT_WEIGHT = 2;
+    private static final int CONTENT_WEIGHT = 1;
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "has", "in", "is", "it",
+            "its", "of", "on", "or", "that", "the", "this", "to", "was", "were", "will", "with");
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, IndexedPost> posts = new HashMap<>();
+    private long totalLength;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            posts.clear();
+            totalLength = 0;
+            blogPostRepository.findByIsPublishedTrueOrderByCreatedAtDesc().forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void update(BlogPost post) {
+        lock.writeLock().lock();
+        try {
+            remove(post.getId());
+            if (Boolean.TRUE.equals(post.getIsPublished())) {
+                add(post);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void delete(Long postId) {
+        lock.writeLock().lock();
+        try {
+            remove(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public BlogSearchResult search(String query, int page, int size) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = new HashMap<>();
+            double averageLength = posts.isEmpty() ? 1 : (double) totalLength / posts.size();
+            for (String term : terms) {
+                Map<Long, Integer> postingList = postings.get(term);
+                if (postingList == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (posts.size() - postingList.size() + 0.5) / (postingList.size() + 0.5));
+                postingList.forEach((postId, frequency) -> {
+                    double norm = K1 * (1 - B + B * posts.get(postId).length / averageLength);
+                    scores.merge(postId, idf * frequency * (K1 + 1) / (frequency + norm), Double::sum);
+                });
+            }
+
+            List<Map.Entry<Long, Double>> ranked = new ArrayList<>(scores.entrySet());
+            ranked.sort(Map.Entry.<Long, Double>comparingByValue().reversed()
+                    .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()));
+
+            // Pages past the end come back empty instead of overflowing the offset
+            long offset = Math.min((long) page * size, ranked.size());
+            List<BlogPost> items = new ArrayList<>();
+            for (int i = (int) offset; i < ranked.size() && items.size() < size; i++) {
+                items.add(posts.get(ranked.get(i).getKey()).post);
+            }
+            return new BlogSearchResult(items, ranked.size(), page, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Callers hold the write lock
+    private void add(BlogPost post) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        addTerms(frequencies, post.getTitle(), TITLE_WEIGHT);
+        addTerms(frequencies, post.getExcerpt(), EXCERPT_WEIGHT);
+        addTerms(frequencies, post.getContent(), CONTENT_WEIGHT);
+
+        int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+        frequencies.forEach((term, frequency) ->
+                postings.computeIfAbsent(term, key -> new HashMap<>()).put(post.getId(), frequency));
+        posts.put(post.getId(), new IndexedPost(post, frequencies.keySet(), length));
+        totalLength += length;
+    }
+
+    // Callers hold the write lock
+    private void remove(Long postId) {
+        IndexedPost indexed = posts.remove(postId);
+        if (indexed == null) {
+            return;
+        }
+        for (String term : indexed.terms) {
+            Map<Long, Integer> postingList = postings.get(term);
+            postingList.remove(postId);
+            if (postingList.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+        totalLength -= indexed.length;
+    }
+
+    private static void addTerms(Map<String, Integer> frequencies, String text, int weight) {
+        for (String term : tokenize(text)) {
+            frequencies.merge(term, weight, Integer::sum);
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                String word = lower.substring(start, i);
+                if (word.length() > 1 && !STOP_WORDS.contains(word)) {
+                    terms.add(stem(word));
+                }
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    // Strips common English inflections; deliberately conservative so short words stay intact
+    static String stem(String word) {
+        int length = word.length();
+        if (length > 4 && word.endsWith("ies")) {
+            return word.substring(0, length - 3) + "y";
+        }
+        if (length > 5 && word.endsWith("ing")) {
+            return word.substring(0, length - 3);
+        }
+        if (length > 4 && word.endsWith("ed")) {
+            return word.substring(0, length - 2);
+        }
+        if (length > 4 && (word.endsWith("ches") || word.endsWith("shes") || word.endsWith("sses") || word.endsWith("xes"))) {
+            return word.substring(0, length - 2);
+        }
+        if (length > 3 && word.endsWith("s") && !word.endsWith("ss") && !word.endsWith("us") && !word.endsWith("is")) {
+            return word.substring(0, length - 1);
+        }
+        return word;
+    }
+
+    private static class IndexedPost {
+        private final BlogPost post;
+        private final Set<String> terms;
+        private final int length;
+
+        IndexedPost(BlogPost post, Set<String> terms, int length) {
+            this.post = post;
+            this.terms = terms;
+            this.length = length;
+        }
+    }
+}
\ No newline at end of file
@@ -1,8 +1,16 @@
 package com.hotelkalsubai.service;
 
+import com.hotelkalsubai.config.CacheConfig;
+import com.hotelkalsubai.dto.CatalogStamp;
+import com.hotelkalsubai.dto.CursorPage;
+import com.hotelkalsubai.dto.PageCursor;
+import com.hotelkalsubai.dto.ResponseSnapshot;
+import com.hotelkalsubai.dto.blog.BlogSearchResult;
 import com.hotelkalsubai.entity.BlogPost;
 import com.hotelkalsubai.repository.BlogPostRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -14,27 +22,61 @@ public class BlogService {
     @Autowired
     private BlogPostRepository blogPostRepository;
 
-    public List<BlogPost> getAllPublishedPosts() {
-        return blogPostRepository.findByIsPublishedTrueOrderByCreatedAtDesc();
+    @Autowired
+    private ResponseSnapshots responseSnapshots;
+
+    @Autowired
+    private BlogSearchIndex blogSearchIndex;
+
+    @Cacheable(cacheNames = CacheConfig.BLOG, key = "'published:' + #limit", condition = "#cursor == null")
+    public CursorPage<BlogPost> getPublishedPostsPage(String cursor, int limit) {
+        return findPublishedPostsPage(cursor, limit);
     }
 
     public Optional<BlogPost> getPostById(Long id) {
         return blogPostRepository.findById(id);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.BLOG, allEntries = true)
     public BlogPost savePost(BlogPost blogPost) {
-        return blogPostRepository.save(blogPost);
+        BlogPost savedPost = blogPostRepository.save(blogPost);
+        blogSearchIndex.update(savedPost);
+        return savedPost;
     }
 
+    @CacheEvict(cacheNames = CacheConfig.BLOG, allEntries = true)
     public void deletePost(Long id) {
         blogPostRepository.deleteById(id);
+        blogSearchIndex.delete(id);
     }
 
     public List<BlogPost> getAllPosts() {
         return blogPostRepository.findAll();
     }
 
-    public List<BlogPost> searchPosts(String title) {
-        return blogPostRepository.findByTitleContainingIgnoreCase(title);
+    public BlogSearchResult searchPosts(String query, int page, int size) {
+        return blogSearchIndex.search(query, page, size);
+    }
+
+    @Cacheable(cacheNames = CacheConfig.BLOG, key = "'stamp'")
+    public CatalogStamp getCatalogStamp() {
+        return blogPostRepository.findCatalogStamp();
+    }
+
+    @Cacheable(cacheNames = CacheConfig.BLOG, key = "'snapshot'")
+    public ResponseSnapshot getBlogSnapshot() {
+        return responseSnapshots.create("Blog posts retrieved successfully", findPublishedPostsPage(null, CursorPage.DEFAULT_LIMIT));
+    }
+
+    private CursorPage<BlogPost> findPublishedPostsPage(String cursor, int limit) {
+        int pageSize = CursorPage.clampLimit(limit);
+        List<BlogPost> rows;
+        if (cursor == null) {
+            rows = blogPostRepository.findLatestPublished(CursorPage.request(pageSize));
+        } else {
+            PageCursor position = PageCursor.decode(cursor);
+            rows = blogPostRepository.findLatestPublishedBefore(position.getTimestamp(), position.getId(), CursorPage.request(pageSize));
+        }
+        return CursorPage.of(rows, pageSize, BlogPost::getCreatedAt, BlogPost::getId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,153 @@
+package com.hotelkalsubai.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotelkalsubai.entity.Booking;
+import com.hotelkalsubai.repository.BookingRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Writes bookings to a stream one row at a time from a database cursor, detaching each
+ * entity once written so memory stays flat regardless of how many bookings are exported.
+ */
+@Service
+public class BookingExportService {
+
+    public enum Format { NDJSON, CSV }
+
+    private static final String[] CSV_HEADER = {
+            "id", "roomId", "roomName", "guestName", "guestPhone", "guestEmail", "checkInDate", "checkOutDate",
+            "totalAmount", "status", "paymentStatus", "paymentId", "specialRequests", "createdAt", "updatedAt"
+    };
+
+    // Leading characters a spreadsheet treats as the start of a formula
+    private static final String FORMULA_TRIGGERS = "=+-@\t\r";
+    // Phone numbers such as +91 98765-43210 start with '+' but cannot call functions
+    private static final Pattern PHONE_NUMBER = Pattern.compile("\\+[0-9][0-9 ()-]*");
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    public BookingExportService(PlatformTransactionManager transactionManager) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public void export(OutputStream outputStream, Format format, LocalDate startDate, LocalDate endDate) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<Booking> bookings = startDate != null && endDate != null
+                    ? bookingRepository.streamByDateRangeForExport(startDate, endDate)
+                    : bookingRepository.streamAllForExport();
+                 Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8))) {
+                if (format == Format.CSV) {
+                    writeCsv(bookings.iterator(), writer);
+                } else {
+                    writeNdjson(bookings.iterator(), writer);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void writeNdjson(Iterator<Booking> bookings, Writer writer) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        while (bookings.hasNext()) {
+            Booking booking = bookings.next();
+            generator.writeStartObject();
+            generator.writeNumberField("id", booking.getId());
+            generator.writeNumberField("roomId", booking.getRoom().getId());
+            generator.writeStringField("roomName", booking.getRoom().getName());
+            generator.writeStringField("guestName", booking.getGuestName());
+            generator.writeStringField("guestPhone", booking.getGuestPhone());
+            generator.writeStringField("guestEmail", booking.getGuestEmail());
+            generator.writeStringField("checkInDate", text(booking.getCheckInDate()));
+            generator.writeStringField("checkOutDate", text(booking.getCheckOutDate()));
+            generator.writeNumberField("totalAmount", booking.getTotalAmount());
+            generator.writeStringField("status", text(booking.getStatus()));
+            generator.writeStringField("paymentStatus", text(booking.getPaymentStatus()));
+            generator.writeStringField("paymentId", booking.getPaymentId());
+            generator.writeStringField("specialRequests", booking.getSpecialRequests());
+            generator.writeStringField("createdAt", text(booking.getCreatedAt()));
+            generator.writeStringField("updatedAt", text(booking.getUpdatedAt()));
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            entityManager.detach(booking);
+        }
+        generator.flush();
+    }
+
+    private void writeCsv(Iterator<Booking> bookings, Writer writer) throws IOException {
+        writeCsvRow(writer, CSV_HEADER);
+        while (bookings.hasNext()) {
+            Booking booking = bookings.next();
+            writeCsvRow(writer, new String[] {
+                    text(booking.getId()),
+                    text(booking.getRoom().getId()),
+                    booking.getRoom().getName(),
+                    booking.getGuestName(),
+                    booking.getGuestPhone(),
+                    booking.getGuestEmail(),
+                    text(booking.getCheckInDate()),
+                    text(booking.getCheckOutDate()),
+                    booking.getTotalAmount() != null ? booking.getTotalAmount().toPlainString() : null,
+                    text(booking.getStatus()),
+                    text(booking.getPaymentStatus()),
+                    booking.getPaymentId(),
+                    booking.getSpecialRequests(),
+                    text(booking.getCreatedAt()),
+                    text(booking.getUpdatedAt())
+            });
+            entityManager.detach(booking);
+        }
+    }
+
+    private static void writeCsvRow(Writer writer, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    private static String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        // Neutralize spreadsheet formulas in guest-supplied text
+        if (!value.isEmpty() && FORMULA_TRIGGERS.indexOf(value.charAt(0)) >= 0 && !PHONE_NUMBER.matcher(value).matches()) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+
+    private static String text(Object value) {
+        return value != null ? value.toString() : null;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,143 @@
+package com.hotelkalsubai.service;
+
+import com.hotelkalsubai.dto.booking.BookingHold;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Short-lived room holds taken during checkout. Holds live only in memory and are
+ * released by a timing wheel when they expire. Callers serialize placing holds and
+ * booking a room through RoomBookingLocks. Holds are capped per client and in total,
+ * since anyone can place them.
+ */
+@Service
+public class BookingHoldService {
+
+    @Value("${app.booking.hold-minutes:10}")
+    private long holdMinutes;
+
+    @Value("${app.booking.hold-wheel-tick-ms:1000}")
+    private long wheelTickMillis;
+
+    @Value("${app.booking.hold-wheel-size:512}")
+    private int wheelSize;
+
+    @Value("${app.booking.max-active-holds:5000}")
+    private int maxActiveHolds;
+
+    @Value("${app.booking.max-holds-per-client:3}")
+    private int maxHoldsPerClient;
+
+    private final Map<String, ActiveHold> holdsById = new ConcurrentHashMap<>();
+    private final Map<Long, Map<String, ActiveHold>> holdsByRoom = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> holdIdsByClient = new ConcurrentHashMap<>();
+    private final AtomicInteger activeHolds = new AtomicInteger();
+    private HashedTimingWheel timingWheel;
+
+    @PostConstruct
+    public void init() {
+        timingWheel = new HashedTimingWheel("booking-hold-expiry", wheelTickMillis, wheelSize);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timingWheel.stop();
+    }
+
+    public BookingHold place(Long roomId, LocalDate checkIn, LocalDate checkOut, String clientKey) {
+        BookingHold hold = new BookingHold(UUID.randomUUID().toString(), roomId, checkIn, checkOut,
+                LocalDateTime.now().plusMinutes(holdMinutes));
+        ActiveHold active = new ActiveHold(hold, clientKey);
+
+        if (activeHolds.incrementAndGet() > maxActiveHolds) {
+            activeHolds.decrementAndGet();
+            throw new RuntimeException("Too many rooms are on hold, please try again shortly");
+        }
+        try {
+            holdIdsByClient.compute(clientKey, (key, clientHolds) -> {
+                Set<String> holds = clientHolds != null ? clientHolds : ConcurrentHashMap.newKeySet();
+                if (holds.size() >= maxHoldsPerClient) {
+                    throw new RuntimeException("Too many active holds, release one before placing another");
+                }
+                holds.add(hold.getHoldId());
+                return holds;
+            });
+        } catch (RuntimeException e) {
+            activeHolds.decrementAndGet();
+            throw e;
+        }
+
+        holdsById.put(hold.getHoldId(), active);
+        holdsByRoom.compute(roomId, (id, roomHolds) -> {
+            Map<String, ActiveHold> holds = roomHolds != null ? roomHolds : new ConcurrentHashMap<>();
+            holds.put(hold.getHoldId(), active);
+            return holds;
+        });
+        active.timeout = timingWheel.schedule(() -> remove(hold.getHoldId()), holdMinutes, TimeUnit.MINUTES);
+        return hold;
+    }
+
+    /**
+     * Returns whether a hold other than {@code ownHoldId} covers any date of the stay.
+     */
+    public boolean isHeldByOther(Long roomId, LocalDate checkIn, LocalDate checkOut, String ownHoldId) {
+        Map<String, ActiveHold> roomHolds = holdsByRoom.get(roomId);
+        if (roomHolds == null) {
+            return false;
+        }
+        return roomHolds.values().stream()
+                .anyMatch(active -> !Objects.equals(active.hold.getHoldId(), ownHoldId)
+                        && active.hold.overlaps(checkIn, checkOut));
+    }
+
+    public boolean release(String holdId) {
+        ActiveHold active = remove(holdId);
+        if (active == null) {
+            return false;
+        }
+        active.timeout.cancel();
+        return true;
+    }
+
+    private ActiveHold remove(String holdId) {
+        if (holdId == null) {
+            return null;
+        }
+        ActiveHold active = holdsById.remove(holdId);
+        if (active != null) {
+            activeHolds.decrementAndGet();
+            holdIdsByClient.computeIfPresent(active.clientKey, (key, clientHolds) -> {
+                clientHolds.remove(holdId);
+                return clientHolds.isEmpty() ? null : clientHolds;
+            });
+            holdsByRoom.computeIfPresent(active.hold.getRoomId(), (roomId, roomHolds) -> {
+                roomHolds.remove(holdId);
+                return roomHolds.isEmpty() ? null : roomHolds;
+            });
+        }
+        return active;
+    }
+
+    private static class ActiveHold {
+        private final BookingHold hold;
+        private final String clientKey;
+        private volatile HashedTimingWheel.Timeout timeout;
+
+        ActiveHold(BookingHold hold, String clientKey) {
+            this.hold = hold;
+            this.clientKey = clientKey;
+        }
+    }
+}
\ No newline at end of file
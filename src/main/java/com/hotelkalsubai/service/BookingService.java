@@ -1,17 +1,24 @@
 package com.hotelkalsubai.service;
 
+import com.hotelkalsubai.dto.CursorPage;
+import com.hotelkalsubai.dto.PageCursor;
+import com.hotelkalsubai.dto.booking.AvailabilityCheck;
+import com.hotelkalsubai.dto.booking.BookingHold;
+import com.hotelkalsubai.dto.booking.BookingSpan;
+import com.hotelkalsubai.dto.booking.BookingView;
 import com.hotelkalsubai.entity.Booking;
 import com.hotelkalsubai.entity.Room;
 import com.hotelkalsubai.repository.BookingRepository;
 import com.hotelkalsubai.repository.RoomRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.Collectors;
 
 @Service
 public class BookingService {
@@ -22,24 +29,107 @@ public class BookingService {
     @Autowired
     private RoomRepository roomRepository;
 
+    @Autowired
+    private AvailabilityIndex availabilityIndex;
+
+    @Autowired
+    private RoomBookingLocks roomBookingLocks;
+
+    @Autowired
+    private RoomCalendarService roomCalendarService;
+
+    @Autowired
+    private BookingHoldService bookingHoldService;
+
+    @Autowired
+    private PricingEngine pricingEngine;
+
+    @Autowired
+    private OccupancyReportService occupancyReportService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     public Booking createBooking(Long roomId, String guestName, String guestPhone, String guestEmail,
-                                LocalDate checkInDate, LocalDate checkOutDate, String specialRequests) {
-        Optional<Room> roomOpt = roomRepository.findById(roomId);
+                                LocalDate checkInDate, LocalDate checkOutDate, String specialRequests, String holdId) {
+        validateStayLength(checkInDate, checkOutDate);
+
+        // Reject obvious conflicts before taking any lock
+        if (hasConflict(roomId, checkInDate, checkOutDate)) {
+            throw new RuntimeException("Room is not available for the selected dates");
+        }
+
+        Lock lock = roomBookingLocks.lockFor(roomId);
+        lock.lock();
+        try {
+            if (bookingHoldService.isHeldByOther(roomId, checkInDate, checkOutDate, holdId)) {
+                throw new RuntimeException("Room is on hold for the selected dates");
+            }
+
+            Booking savedBooking = transactionTemplate.execute(status -> insertBooking(roomId, guestName, guestPhone,
+                    guestEmail, checkInDate, checkOutDate, specialRequests));
+            availabilityIndex.recordBooking(savedBooking);
+            roomCalendarService.evict(checkInDate, checkOutDate);
+            occupancyReportService.recordBooking(savedBooking);
+            bookingHoldService.release(holdId);
+            return savedBooking;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public BookingHold placeHold(Long roomId, LocalDate checkInDate, LocalDate checkOutDate, String clientKey) {
+        if (checkInDate.isBefore(LocalDate.now())) {
+            throw new RuntimeException("Check-in date cannot be in the past");
+        }
+        validateStayLength(checkInDate, checkOutDate);
+        if (!roomRepository.existsById(roomId)) {
+            throw new RuntimeException("Room not found");
+        }
+
+        Lock lock = roomBookingLocks.lockFor(roomId);
+        lock.lock();
+        try {
+            if (hasConflict(roomId, checkInDate, checkOutDate)
+                    || bookingHoldService.isHeldByOther(roomId, checkInDate, checkOutDate, null)) {
+                throw new RuntimeException("Room is not available for the selected dates");
+            }
+            return bookingHoldService.place(roomId, checkInDate, checkOutDate, clientKey);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean releaseHold(String holdId) {
+        return bookingHoldService.release(holdId);
+    }
+
+    private void validateStayLength(LocalDate checkInDate, LocalDate checkOutDate) {
+        if (!checkOutDate.isAfter(checkInDate)) {
+            throw new RuntimeException("Check-out date must be after check-in date");
+        }
+        if (!pricingEngine.isStayLengthAllowed(checkInDate, checkOutDate)) {
+            throw new RuntimeException("Stays are limited to " + pricingEngine.getMaxStayNights() + " nights");
+        }
+    }
+
+    private Booking insertBooking(Long roomId, String guestName, String guestPhone, String guestEmail,
+                                  LocalDate checkInDate, LocalDate checkOutDate, String specialRequests) {
+        // The room row lock serializes bookings for this room across application instances
+        Optional<Room> roomOpt = roomRepository.findByIdForUpdate(roomId);
         if (roomOpt.isEmpty()) {
             throw new RuntimeException("Room not found");
         }
 
         Room room = roomOpt.get();
-        
-        // Check for conflicts
-        List<Booking> conflicts = bookingRepository.findConflictingBookings(roomId, checkInDate, checkOutDate);
-        if (!conflicts.isEmpty()) {
+
+        // Re-check against the database now that no other booking for this room can commit
+        if (bookingRepository.existsConflictingBooking(roomId, checkInDate, checkOutDate)) {
             throw new RuntimeException("Room is not available for the selected dates");
         }
 
         // Calculate total amount
-        long nights = ChronoUnit.DAYS.between(checkInDate, checkOutDate);
-        BigDecimal totalAmount = room.getPricePerNight().multiply(BigDecimal.valueOf(nights));
+        BigDecimal totalAmount = pricingEngine.quote(room, checkInDate, checkOutDate);
 
         Booking booking = new Booking(room, guestName, guestPhone, guestEmail, checkInDate, checkOutDate, totalAmount);
         booking.setSpecialRequests(specialRequests);
@@ -47,16 +137,33 @@ public class BookingService {
         return bookingRepository.save(booking);
     }
 
-    public List<Booking> getAllBookings() {
-        return bookingRepository.findAll();
+    public CursorPage<BookingView> getBookingsPage(String cursor, int limit) {
+        int pageSize = CursorPage.clampLimit(limit);
+        List<BookingView> rows;
+        if (cursor == null) {
+            rows = bookingRepository.findLatest(CursorPage.request(pageSize));
+        } else {
+            PageCursor position = PageCursor.decode(cursor);
+            rows = bookingRepository.findLatestBefore(position.getTimestamp(), position.getId(), CursorPage.request(pageSize));
+        }
+        return CursorPage.of(rows, pageSize, BookingView::getCreatedAt, BookingView::getId);
     }
 
     public Optional<Booking> getBookingById(Long id) {
         return bookingRepository.findById(id);
     }
 
-    public List<Booking> getBookingsByEmail(String email) {
-        return bookingRepository.findByGuestEmail(email);
+    public CursorPage<BookingView> getBookingsByEmail(String email, String cursor, int limit) {
+        int pageSize = CursorPage.clampLimit(limit);
+        List<BookingView> rows;
+        if (cursor == null) {
+            rows = bookingRepository.findLatestByGuestEmail(email, CursorPage.request(pageSize));
+        } else {
+            PageCursor position = PageCursor.decode(cursor);
+            rows = bookingRepository.findLatestByGuestEmailBefore(email, position.getTimestamp(), position.getId(),
+                    CursorPage.request(pageSize));
+        }
+        return CursorPage.of(rows, pageSize, BookingView::getCreatedAt, BookingView::getId);
     }
 
     public Booking updateBookingStatus(Long id, Booking.BookingStatus status) {
@@ -67,7 +174,11 @@ public class BookingService {
 
         Booking booking = bookingOpt.get();
         booking.setStatus(status);
-        return bookingRepository.save(booking);
+        Booking savedBooking = bookingRepository.save(booking);
+        availabilityIndex.recordBooking(savedBooking);
+        roomCalendarService.evict(savedBooking.getCheckInDate(), savedBooking.getCheckOutDate());
+        occupancyReportService.recordBooking(savedBooking);
+        return savedBooking;
     }
 
     public Booking updatePaymentStatus(Long id, Booking.PaymentStatus paymentStatus, String paymentId) {
@@ -81,15 +192,70 @@ public class BookingService {
         if (paymentId != null) {
             booking.setPaymentId(paymentId);
         }
-        return bookingRepository.save(booking);
+        Booking savedBooking = bookingRepository.save(booking);
+        occupancyReportService.recordBooking(savedBooking);
+        return savedBooking;
     }
 
-    public List<Booking> getBookingsByDateRange(LocalDate startDate, LocalDate endDate) {
-        return bookingRepository.findBookingsByDateRange(startDate, endDate);
+    public CursorPage<BookingView> getBookingsByDateRange(LocalDate startDate, LocalDate endDate, String cursor, int limit) {
+        int pageSize = CursorPage.clampLimit(limit);
+        List<BookingView> rows;
+        if (cursor == null) {
+            rows = bookingRepository.findViewsByDateRange(startDate, endDate, CursorPage.request(pageSize));
+        } else {
+            // Pages run in check-in order, so the cursor carries the check-in date at midnight
+            PageCursor position = PageCursor.decode(cursor);
+            rows = bookingRepository.findViewsByDateRangeAfter(position.getTimestamp().toLocalDate(), position.getId(),
+                    endDate, CursorPage.request(pageSize));
+        }
+        return CursorPage.of(rows, pageSize, view -> view.getCheckInDate().atStartOfDay(), BookingView::getId);
     }
 
     public boolean isRoomAvailable(Long roomId, LocalDate checkIn, LocalDate checkOut) {
-        List<Booking> conflicts = bookingRepository.findConflictingBookings(roomId, checkIn, checkOut);
-        return conflicts.isEmpty();
+        return !hasConflict(roomId, checkIn, checkOut)
+                && !bookingHoldService.isHeldByOther(roomId, checkIn, checkOut, null);
+    }
+
+    public List<Boolean> checkAvailability(List<AvailabilityCheck> checks) {
+        Boolean[] results = new Boolean[checks.size()];
+        List<Integer> unresolved = new ArrayList<>();
+        for (int i = 0; i < checks.size(); i++) {
+            AvailabilityCheck check = checks.get(i);
+            Optional<Boolean> conflict = availabilityIndex.hasConflict(check.getRoomId(), check.getCheckIn(), check.getCheckOut());
+            if (bookingHoldService.isHeldByOther(check.getRoomId(), check.getCheckIn(), check.getCheckOut(), null)) {
+                results[i] = false;
+            } else if (conflict.isPresent()) {
+                results[i] = !conflict.get();
+            } else {
+                unresolved.add(i);
+            }
+        }
+
+        if (!unresolved.isEmpty()) {
+            // One grouped query covering every remaining room and the union of their date ranges
+            Set<Long> roomIds = new HashSet<>();
+            LocalDate from = null;
+            LocalDate to = null;
+            for (int i : unresolved) {
+                AvailabilityCheck check = checks.get(i);
+                roomIds.add(check.getRoomId());
+                from = from == null || check.getCheckIn().isBefore(from) ? check.getCheckIn() : from;
+                to = to == null || check.getCheckOut().isAfter(to) ? check.getCheckOut() : to;
+            }
+
+            Map<Long, List<BookingSpan>> spansByRoom = bookingRepository.findActiveSpansForRooms(roomIds, from, to).stream()
+                    .collect(Collectors.groupingBy(BookingSpan::getRoomId));
+            for (int i : unresolved) {
+                AvailabilityCheck check = checks.get(i);
+                results[i] = spansByRoom.getOrDefault(check.getRoomId(), List.of()).stream()
+                        .noneMatch(span -> span.overlaps(check.getCheckIn(), check.getCheckOut()));
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    private boolean hasConflict(Long roomId, LocalDate checkIn, LocalDate checkOut) {
+        return availabilityIndex.hasConflict(roomId, checkIn, checkOut)
+                .orElseGet(() -> bookingRepository.existsConflictingBooking(roomId, checkIn, checkOut));
     }
 }
\ No newline at end of file
@@ -1,8 +1,11 @@
 package com.hotelkalsubai.service;
 
+import com.hotelkalsubai.config.CacheConfig;
 import com.hotelkalsubai.entity.ContactInfo;
 import com.hotelkalsubai.repository.ContactInfoRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -14,11 +17,13 @@ public class ContactService {
     @Autowired
     private ContactInfoRepository contactInfoRepository;
 
+    @Cacheable(cacheNames = CacheConfig.CONTACT, key = "'info'")
     public Optional<ContactInfo> getContactInfo() {
         List<ContactInfo> contacts = contactInfoRepository.findAll();
         return contacts.isEmpty() ? Optional.empty() : Optional.of(contacts.get(0));
     }
 
+    @CacheEvict(cacheNames = CacheConfig.CONTACT, allEntries = true)
     public ContactInfo saveContactInfo(ContactInfo contactInfo) {
         return contactInfoRepository.save(contactInfo);
     }
@@ -1,8 +1,15 @@
 package com.hotelkalsubai.service;
 
+import com.hotelkalsubai.config.CacheConfig;
+import com.hotelkalsubai.dto.CatalogStamp;
+import com.hotelkalsubai.dto.CursorPage;
+import com.hotelkalsubai.dto.PageCursor;
+import com.hotelkalsubai.dto.feedback.RatingSummary;
 import com.hotelkalsubai.entity.Feedback;
 import com.hotelkalsubai.repository.FeedbackRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -14,8 +21,20 @@ public class FeedbackService {
     @Autowired
     private FeedbackRepository feedbackRepository;
 
-    public List<Feedback> getApprovedFeedback() {
-        return feedbackRepository.findByIsApprovedTrueOrderBySubmittedAtDesc();
+    @Autowired
+    private RatingAggregates ratingAggregates;
+
+    @Cacheable(cacheNames = CacheConfig.FEEDBACK, key = "'approved:' + #limit", condition = "#cursor == null")
+    public CursorPage<Feedback> getApprovedFeedbackPage(String cursor, int limit) {
+        int pageSize = CursorPage.clampLimit(limit);
+        List<Feedback> rows;
+        if (cursor == null) {
+            rows = feedbackRepository.findLatestApproved(CursorPage.request(pageSize));
+        } else {
+            PageCursor position = PageCursor.decode(cursor);
+            rows = feedbackRepository.findLatestApprovedBefore(position.getTimestamp(), position.getId(), CursorPage.request(pageSize));
+        }
+        return CursorPage.of(rows, pageSize, Feedback::getSubmittedAt, Feedback::getId);
     }
 
     public List<Feedback> getAllFeedback() {
@@ -26,14 +45,18 @@ public class FeedbackService {
         return feedbackRepository.findByIsApprovedFalseOrderBySubmittedAtDesc();
     }
 
+    @CacheEvict(cacheNames = CacheConfig.FEEDBACK, allEntries = true)
     public Feedback saveFeedback(Feedback feedback) {
-        return feedbackRepository.save(feedback);
+        Feedback savedFeedback = feedbackRepository.save(feedback);
+        ratingAggregates.record(savedFeedback);
+        return savedFeedback;
     }
 
     public Optional<Feedback> getFeedbackById(Long id) {
         return feedbackRepository.findById(id);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.FEEDBACK, allEntries = true)
     public Feedback approveFeedback(Long id) {
         Optional<Feedback> feedbackOpt = feedbackRepository.findById(id);
         if (feedbackOpt.isEmpty()) {
@@ -42,15 +65,27 @@ public class FeedbackService {
 
         Feedback feedback = feedbackOpt.get();
         feedback.setIsApproved(true);
-        return feedbackRepository.save(feedback);
+        Feedback savedFeedback = feedbackRepository.save(feedback);
+        ratingAggregates.record(savedFeedback);
+        return savedFeedback;
     }
 
+    @CacheEvict(cacheNames = CacheConfig.FEEDBACK, allEntries = true)
     public void deleteFeedback(Long id) {
         feedbackRepository.deleteById(id);
+        ratingAggregates.delete(id);
     }
 
     public Double getAverageRating() {
-        Double average = feedbackRepository.findAverageRating();
-        return average != null ? average : 0.0;
+        return ratingAggregates.getAverage();
+    }
+
+    public RatingSummary getRatingSummary(int months) {
+        return ratingAggregates.getSummary(months);
+    }
+
+    @Cacheable(cacheNames = CacheConfig.FEEDBACK, key = "'stamp'")
+    public CatalogStamp getCatalogStamp() {
+        return feedbackRepository.findCatalogStamp();
     }
 }
\ No newline at end of file
@@ -1,10 +1,20 @@
 package com.hotelkalsubai.service;
 
+import com.hotelkalsubai.config.CacheConfig;
+import com.hotelkalsubai.dto.CatalogStamp;
+import com.hotelkalsubai.dto.CursorPage;
+import com.hotelkalsubai.dto.PageCursor;
+import com.hotelkalsubai.dto.ResponseSnapshot;
+import com.hotelkalsubai.dto.gallery.StoredImage;
 import com.hotelkalsubai.entity.GalleryImage;
 import com.hotelkalsubai.repository.GalleryImageRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,10 +24,23 @@ public class GalleryService {
     @Autowired
     private GalleryImageRepository galleryImageRepository;
 
+    @Autowired
+    private ResponseSnapshots responseSnapshots;
+
+    @Autowired
+    private GalleryStorageService galleryStorageService;
+
+    @Cacheable(cacheNames = CacheConfig.GALLERY, key = "'all'")
     public List<GalleryImage> getAllImages() {
         return galleryImageRepository.findAllByOrderByUploadedAtDesc();
     }
 
+    @Cacheable(cacheNames = CacheConfig.GALLERY, key = "'page:' + #limit", condition = "#cursor == null")
+    public CursorPage<GalleryImage> getImagesPage(String cursor, int limit) {
+        return findImagesPage(cursor, limit);
+    }
+
+    @Cacheable(cacheNames = CacheConfig.GALLERY, key = "'category:' + #category")
     public List<GalleryImage> getImagesByCategory(String category) {
         return galleryImageRepository.findByCategory(category);
     }
@@ -26,11 +49,55 @@ public class GalleryService {
         return galleryImageRepository.findById(id);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.GALLERY, allEntries = true)
     public GalleryImage saveImage(GalleryImage galleryImage) {
         return galleryImageRepository.save(galleryImage);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.GALLERY, allEntries = true)
+    public GalleryImage uploadImage(MultipartFile file, String category, String title, String description) throws IOException {
+        if (file.isEmpty()) {
+            throw new RuntimeException("Image file is required");
+        }
+        StoredImage stored = galleryStorageService.store(file);
+
+        GalleryImage galleryImage = new GalleryImage("/api/gallery/files/" + stored.getFileName(), category, title);
+        galleryImage.setDescription(description);
+        galleryImage.setContentHash(stored.getContentHash());
+        galleryImage.setWidth(stored.getWidth());
+        galleryImage.setHeight(stored.getHeight());
+        return galleryImageRepository.save(galleryImage);
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.GALLERY, allEntries = true)
     public void deleteImage(Long id) {
+        String contentHash = galleryImageRepository.findById(id).map(GalleryImage::getContentHash).orElse(null);
         galleryImageRepository.deleteById(id);
+        // Identical uploads share one stored file, which goes once no image refers to it
+        if (contentHash != null && galleryImageRepository.countByContentHash(contentHash) == 0) {
+            galleryStorageService.delete(contentHash);
+        }
+    }
+
+    @Cacheable(cacheNames = CacheConfig.GALLERY, key = "'stamp'")
+    public CatalogStamp getCatalogStamp() {
+        return galleryImageRepository.findCatalogStamp();
+    }
+
+    @Cacheable(cacheNames = CacheConfig.GALLERY, key = "'snapshot'")
+    public ResponseSnapshot getGallerySnapshot() {
+        return responseSnapshots.create("Gallery images retrieved successfully", findImagesPage(null, CursorPage.DEFAULT_LIMIT));
+    }
+
+    private CursorPage<GalleryImage> findImagesPage(String cursor, int limit) {
+        int pageSize = CursorPage.clampLimit(limit);
+        List<GalleryImage> rows;
+        if (cursor == null) {
+            rows = galleryImageRepository.findLatest(CursorPage.request(pageSize));
+        } else {
+            PageCursor position = PageCursor.decode(cursor);
+            rows = galleryImageRepository.findLatestBefore(position.getTimestamp(), position.getId(), CursorPage.request(pageSize));
+        }
+        return CursorPage.of(rows, pageSize, GalleryImage::getUploadedAt, GalleryImage::getId);
     }
 }
\ No newline at end of file
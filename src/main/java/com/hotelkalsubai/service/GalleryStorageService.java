@@ -0,0 +1,276 @@
+package com.hotelkalsubai.service;
+
+import com.hotelkalsubai.dto.gallery.StoredImage;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.*;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * Content-addressed storage for uploaded gallery images. Uploads are streamed to disk
+ * while being hashed, so identical files share one directory named by their SHA-256.
+ * Resized variants are produced by a small bounded pool; while a variant is missing
+ * the original is served in its place.
+ */
+@Service
+public class GalleryStorageService {
+
+    private static final Logger logger = LoggerFactory.getLogger(GalleryStorageService.class);
+
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+    private static final Map<String, String> EXTENSIONS = Map.of("jpeg", "jpg", "png", "png", "gif", "gif", "bmp", "bmp");
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "jpg", "image/jpeg", "png", "image/png", "gif", "image/gif", "bmp", "image/bmp");
+
+    @Value("${app.gallery.storage-dir:uploads/gallery}")
+    private String storageDir;
+
+    @Value("${app.gallery.variant-widths:320,640,1280}")
+    private List<Integer> variantWidths;
+
+    @Value("${app.gallery.resize-threads:2}")
+    private int resizeThreads;
+
+    @Value("${app.gallery.resize-queue:32}")
+    private int resizeQueue;
+
+    @Value("${app.gallery.max-pixels:40000000}")
+    private long maxPixels;
+
+    private Path root;
+    private ThreadPoolExecutor resizeExecutor;
+
+    @PostConstruct
+    public void init() throws IOException {
+        root = Paths.get(storageDir).toAbsolutePath().normalize();
+        Files.createDirectories(root);
+        variantWidths = variantWidths.stream().filter(width -> width > 0).sorted().distinct().toList();
+
+        AtomicInteger threadCount = new AtomicInteger();
+        // A full queue makes the uploading request resize its own image, which throttles bulk uploads
+        resizeExecutor = new ThreadPoolExecutor(resizeThreads, resizeThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(resizeQueue),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "gallery-resize-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        resizeExecutor.shutdown();
+    }
+
+    public StoredImage store(MultipartFile file) throws IOException {
+        Path temp = Files.createTempFile(root, "upload-", ".tmp");
+        try {
+            MessageDigest digest = sha256();
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+
+            String extension;
+            int width;
+            int height;
+            try (ImageInputStream input = ImageIO.createImageInputStream(temp.toFile())) {
+                Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : Collections.emptyIterator();
+                if (!readers.hasNext()) {
+                    throw new RuntimeException("Unsupported image format");
+                }
+                ImageReader reader = readers.next();
+                try {
+                    extension = EXTENSIONS.get(reader.getFormatName().toLowerCase(Locale.ROOT));
+                    if (extension == null) {
+                        throw new RuntimeException("Unsupported image format");
+                    }
+                    reader.setInput(input);
+                    width = reader.getWidth(0);
+                    height = reader.getHeight(0);
+                } finally {
+                    reader.dispose();
+                }
+            }
+            if ((long) width * height > maxPixels) {
+                throw new RuntimeException("Image dimensions are too large");
+            }
+
+            Path directory = directoryFor(hash);
+            Files.createDirectories(directory);
+            Path original = directory.resolve("original." + extension);
+            if (!Files.exists(original)) {
+                try {
+                    Files.move(temp, original, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException e) {
+                    // Stored concurrently by an identical upload
+                }
+            }
+
+            StoredImage stored = new StoredImage(hash, extension, width, height);
+            scheduleVariants(stored);
+            return stored;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Returns the file to serve for {@code fileName} (hash.extension): the smallest variant at least
+     * {@code requestedWidth} wide when one is ready, otherwise the original.
+     */
+    public Optional<Path> resolve(String fileName, Integer requestedWidth) {
+        int dot = fileName.lastIndexOf('.');
+        if (dot < 0) {
+            return Optional.empty();
+        }
+        String hash = fileName.substring(0, dot);
+        String extension = fileName.substring(dot + 1);
+        if (!HASH.matcher(hash).matches() || !CONTENT_TYPES.containsKey(extension)) {
+            return Optional.empty();
+        }
+
+        Path directory = directoryFor(hash);
+        if (requestedWidth != null) {
+            for (int width : variantWidths) {
+                if (width >= requestedWidth) {
+                    Path variant = directory.resolve(variantName(width, extension));
+                    if (Files.exists(variant)) {
+                        return Optional.of(variant);
+                    }
+                    break;
+                }
+            }
+        }
+        Path original = directory.resolve("original." + extension);
+        return Files.exists(original) ? Optional.of(original) : Optional.empty();
+    }
+
+    public String contentTypeOf(Path path) {
+        String name = path.getFileName().toString();
+        return CONTENT_TYPES.getOrDefault(name.substring(name.lastIndexOf('.') + 1), "application/octet-stream");
+    }
+
+    public void delete(String hash) {
+        if (hash == null || !HASH.matcher(hash).matches()) {
+            return;
+        }
+        Path directory = directoryFor(hash);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+            Files.deleteIfExists(directory);
+        } catch (NoSuchFileException e) {
+            // Already removed
+        } catch (IOException e) {
+            logger.warn("Failed to delete stored gallery image {}", hash, e);
+        }
+    }
+
+    private void scheduleVariants(StoredImage stored) {
+        Path directory = directoryFor(stored.getContentHash());
+        List<Integer> missing = variantWidths.stream()
+                .filter(width -> width < stored.getWidth())
+                .filter(width -> !Files.exists(directory.resolve(variantName(width, stored.getExtension()))))
+                .toList();
+        if (!missing.isEmpty()) {
+            resizeExecutor.execute(() -> writeVariants(directory, stored.getExtension(), missing));
+        }
+    }
+
+    private void writeVariants(Path directory, String extension, List<Integer> widths) {
+        try {
+            BufferedImage source = ImageIO.read(directory.resolve("original." + extension).toFile());
+            if (source == null) {
+                return;
+            }
+            String variantExtension = variantExtension(extension);
+            // Larger variants first, each downscaled from the previous one
+            BufferedImage current = source;
+            for (int i = widths.size() - 1; i >= 0; i--) {
+                int width = widths.get(i);
+                current = resize(current, width, !"jpg".equals(variantExtension));
+                Path temp = Files.createTempFile(directory, "variant-", ".tmp");
+                try {
+                    ImageIO.write(current, "jpg".equals(variantExtension) ? "jpeg" : "png", temp.toFile());
+                    Files.move(temp, directory.resolve(variantName(width, extension)), StandardCopyOption.ATOMIC_MOVE);
+                } finally {
+                    Files.deleteIfExists(temp);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to create gallery variants in {}", directory, e);
+        }
+    }
+
+    // Halves the image until close to the target before the final step, which keeps bilinear scaling sharp
+    private static BufferedImage resize(BufferedImage image, int targetWidth, boolean keepAlpha) {
+        BufferedImage current = image;
+        int width = image.getWidth();
+        int height = image.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(1, (int) Math.round((double) image.getHeight() * width / image.getWidth()));
+            BufferedImage scaled = new BufferedImage(width, height, keepAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = scaled.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                if (!keepAlpha) {
+                    graphics.setColor(Color.WHITE);
+                    graphics.fillRect(0, 0, width, height);
+                }
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = scaled;
+        } while (width > targetWidth);
+        return current;
+    }
+
+    private static String variantName(int width, String extension) {
+        return "w" + width + "." + variantExtension(extension);
+    }
+
+    // Variants are JPEG unless the original may carry transparency
+    private static String variantExtension(String extension) {
+        return "png".equals(extension) || "gif".equals(extension) ? "png" : "jpg";
+    }
+
+    private Path directoryFor(String hash) {
+        return root.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
\ No newline at end of file
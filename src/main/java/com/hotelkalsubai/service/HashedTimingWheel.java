@@ -0,0 +1,130 @@
+package com.hotelkalsubai.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Hashed timing wheel: scheduling and cancelling are O(1), and a single ticker thread
+ * expires due timeouts one bucket per tick. Timeouts fire at most one tick late.
+ */
+public class HashedTimingWheel {
+
+    private static final Logger logger = LoggerFactory.getLogger(HashedTimingWheel.class);
+
+    private final long tickNanos;
+    private final int mask;
+    private final ArrayDeque<Timeout>[] buckets;
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final ScheduledExecutorService ticker;
+    private final long startNanos;
+
+    // Only read and written by the ticker thread
+    private long tick;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(String threadName, long tickMillis, int wheelSize) {
+        int size = Integer.highestOneBit(Math.max(2, wheelSize - 1)) << 1;
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.mask = size - 1;
+        this.buckets = new ArrayDeque[size];
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.startNanos = System.nanoTime();
+        ticker.scheduleAtFixedRate(this::advance, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        Timeout timeout = new Timeout(task, System.nanoTime() - startNanos + unit.toNanos(delay));
+        pending.add(timeout);
+        return timeout;
+    }
+
+    public void stop() {
+        ticker.shutdownNow();
+    }
+
+    private void advance() {
+        try {
+            transferPending();
+
+            Iterator<Timeout> iterator = buckets[(int) (tick & mask)].iterator();
+            while (iterator.hasNext()) {
+                Timeout timeout = iterator.next();
+                if (timeout.isCancelled()) {
+                    iterator.remove();
+                } else if (timeout.remainingRounds <= 0) {
+                    iterator.remove();
+                    timeout.expire();
+                } else {
+                    timeout.remainingRounds--;
+                }
+            }
+            tick++;
+        } catch (RuntimeException e) {
+            // An exception would stop the fixed-rate schedule, so keep the wheel turning
+            logger.error("Timing wheel tick failed: {}", e.getMessage());
+        }
+    }
+
+    private void transferPending() {
+        Timeout timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            long dueTick = Math.max(timeout.deadlineNanos / tickNanos, tick);
+            timeout.remainingRounds = (dueTick - tick) / buckets.length;
+            buckets[(int) (dueTick & mask)].add(timeout);
+        }
+    }
+
+    public static class Timeout {
+        private final Runnable task;
+        private final long deadlineNanos;
+        private final AtomicBoolean done = new AtomicBoolean();
+        private long remainingRounds;
+
+        private Timeout(Runnable task, long deadlineNanos) {
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        /**
+         * Cancels the timeout, returning false when it already fired or was cancelled.
+         */
+        public boolean cancel() {
+            return done.compareAndSet(false, true);
+        }
+
+        boolean isCancelled() {
+            return done.get();
+        }
+
+        private void expire() {
+            if (!done.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                logger.error("Timing wheel task failed: {}", e.getMessage());
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -1,8 +1,13 @@
 package com.hotelkalsubai.service;
 
+import com.hotelkalsubai.config.CacheConfig;
+import com.hotelkalsubai.dto.CatalogStamp;
+import com.hotelkalsubai.dto.ResponseSnapshot;
 import com.hotelkalsubai.entity.MenuItem;
 import com.hotelkalsubai.repository.MenuItemRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -14,10 +19,15 @@ public class MenuService {
     @Autowired
     private MenuItemRepository menuItemRepository;
 
+    @Autowired
+    private ResponseSnapshots responseSnapshots;
+
+    @Cacheable(cacheNames = CacheConfig.MENU, key = "'all'")
     public List<MenuItem> getAllMenuItems() {
         return menuItemRepository.findByIsAvailableTrue();
     }
 
+    @Cacheable(cacheNames = CacheConfig.MENU, key = "'category:' + #category")
     public List<MenuItem> getMenuItemsByCategory(String category) {
         return menuItemRepository.findByCategoryAndIsAvailableTrue(category);
     }
@@ -26,10 +36,12 @@ public class MenuService {
         return menuItemRepository.findById(id);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.MENU, allEntries = true)
     public MenuItem saveMenuItem(MenuItem menuItem) {
         return menuItemRepository.save(menuItem);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.MENU, allEntries = true)
     public void deleteMenuItem(Long id) {
         menuItemRepository.deleteById(id);
     }
@@ -37,4 +49,14 @@ public class MenuService {
     public List<MenuItem> getAllMenuItemsForAdmin() {
         return menuItemRepository.findAll();
     }
+
+    @Cacheable(cacheNames = CacheConfig.MENU, key = "'stamp'")
+    public CatalogStamp getCatalogStamp() {
+        return menuItemRepository.findCatalogStamp();
+    }
+
+    @Cacheable(cacheNames = CacheConfig.MENU, key = "'snapshot'")
+    public ResponseSnapshot getMenuSnapshot() {
+        return responseSnapshots.create("Menu items retrieved successfully", menuItemRepository.findByIsAvailableTrue());
+    }
 }
\ No newline at end of file
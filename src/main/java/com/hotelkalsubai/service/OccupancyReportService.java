@@ -0,0 +1,195 @@
+package com.hotelkalsubai.service;
+
+import com.hotelkalsubai.dto.report.BookingFact;
+import com.hotelkalsubai.dto.report.DailyOccupancy;
+import com.hotelkalsubai.entity.Booking;
+import com.hotelkalsubai.repository.BookingRepository;
+import com.hotelkalsubai.repository.RoomRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Per-night occupancy and revenue aggregates, maintained incrementally as bookings are
+ * created or change status or payment status. A booking's total is spread evenly over
+ * its nights; cancelled bookings contribute nothing.
+ */
+@Service
+public class OccupancyReportService {
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<Long, DayTotals> days = new TreeMap<>();
+    private final Map<Long, Contribution> contributions = new HashMap<>();
+    private volatile long totalRooms;
+
+    // Bookings recorded while a rebuild is reading from the database, replayed over the loaded facts
+    private List<Contribution> pendingContributions;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingContributions = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<BookingFact> facts;
+        long roomCount;
+        try {
+            facts = bookingRepository.findAllFacts();
+            roomCount = roomRepository.count();
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingContributions = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            days.clear();
+            contributions.clear();
+            for (BookingFact fact : facts) {
+                apply(new Contribution(fact.getBookingId(), fact.getRoomType(), fact.getCheckInDate(),
+                        fact.getCheckOutDate(), toPaise(fact.getTotalAmount()), fact.getStatus(), fact.getPaymentStatus()));
+            }
+            for (Contribution contribution : pendingContributions) {
+                apply(contribution);
+            }
+            pendingContributions = null;
+            totalRooms = roomCount;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void refreshRoomCount() {
+        totalRooms = roomRepository.count();
+    }
+
+    public void recordBooking(Booking booking) {
+        lock.writeLock().lock();
+        try {
+            Contribution previous = contributions.get(booking.getId());
+            // Reuse the known room type so status updates do not initialize the lazy room
+            String roomType = previous != null ? previous.roomType : booking.getRoom().getType();
+            Contribution contribution = new Contribution(booking.getId(), roomType, booking.getCheckInDate(),
+                    booking.getCheckOutDate(), toPaise(booking.getTotalAmount()), booking.getStatus(), booking.getPaymentStatus());
+            if (pendingContributions != null) {
+                pendingContributions.add(contribution);
+            }
+            apply(contribution);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<DailyOccupancy> getDailyOccupancy(LocalDate startDate, LocalDate endDate) {
+        long rooms = totalRooms;
+        List<DailyOccupancy> report = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                DayTotals totals = days.getOrDefault(date.toEpochDay(), new DayTotals());
+
+                Map<String, BigDecimal> revenueByRoomType = new TreeMap<>();
+                totals.revenueByRoomType.forEach((type, paise) -> revenueByRoomType.put(type, BigDecimal.valueOf(paise, 2)));
+
+                report.add(new DailyOccupancy(
+                        date,
+                        totals.roomsSold,
+                        rooms,
+                        rooms > 0 ? BigDecimal.valueOf(totals.roomsSold * 100L).divide(BigDecimal.valueOf(rooms), 1, RoundingMode.HALF_UP) : BigDecimal.ZERO,
+                        BigDecimal.valueOf(totals.revenuePaise, 2),
+                        BigDecimal.valueOf(totals.paidRevenuePaise, 2),
+                        totals.roomsSold > 0 ? BigDecimal.valueOf(totals.revenuePaise / totals.roomsSold, 2) : BigDecimal.ZERO,
+                        rooms > 0 ? BigDecimal.valueOf(totals.revenuePaise / rooms, 2) : BigDecimal.ZERO,
+                        revenueByRoomType));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return report;
+    }
+
+    // Callers hold the write lock
+    private void apply(Contribution contribution) {
+        Contribution previous = contributions.put(contribution.bookingId, contribution);
+        if (previous != null) {
+            previous.addTo(days, -1);
+        }
+        contribution.addTo(days, 1);
+    }
+
+    private static long toPaise(BigDecimal amount) {
+        return amount != null ? amount.movePointRight(2).longValue() : 0;
+    }
+
+    private static class DayTotals {
+        private int roomsSold;
+        private long revenuePaise;
+        private long paidRevenuePaise;
+        private final Map<String, Long> revenueByRoomType = new HashMap<>();
+    }
+
+    private static class Contribution {
+        private final Long bookingId;
+        private final String roomType;
+        private final LocalDate checkInDate;
+        private final LocalDate checkOutDate;
+        private final long totalPaise;
+        private final boolean active;
+        private final boolean paid;
+
+        Contribution(Long bookingId, String roomType, LocalDate checkInDate, LocalDate checkOutDate, long totalPaise,
+                     Booking.BookingStatus status, Booking.PaymentStatus paymentStatus) {
+            this.bookingId = bookingId;
+            this.roomType = roomType;
+            this.checkInDate = checkInDate;
+            this.checkOutDate = checkOutDate;
+            this.totalPaise = totalPaise;
+            this.active = status != Booking.BookingStatus.CANCELLED;
+            this.paid = paymentStatus == Booking.PaymentStatus.PAID;
+        }
+
+        void addTo(TreeMap<Long, DayTotals> days, int sign) {
+            long nights = ChronoUnit.DAYS.between(checkInDate, checkOutDate);
+            if (!active || nights <= 0) {
+                return;
+            }
+
+            long perNight = totalPaise / nights;
+            long remainder = totalPaise % nights;
+            long firstNight = checkInDate.toEpochDay();
+            for (long i = 0; i < nights; i++) {
+                long nightPaise = (perNight + (i < remainder ? 1 : 0)) * sign;
+                DayTotals totals = days.computeIfAbsent(firstNight + i, day -> new DayTotals());
+                totals.roomsSold += sign;
+                totals.revenuePaise += nightPaise;
+                if (paid) {
+                    totals.paidRevenuePaise += nightPaise;
+                }
+                totals.revenueByRoomType.merge(roomType, nightPaise, Long::sum);
+            }
+        }
+    }
+}
\ No newline at end of file
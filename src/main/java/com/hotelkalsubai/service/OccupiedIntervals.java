@@ -0,0 +1,39 @@
+package com.hotelkalsubai.service;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Disjoint, coalesced intervals of occupied epoch days (both ends inclusive) for one room.
+ * Because stored intervals never overlap, an overlap query only needs the interval with
+ * the greatest start not after the query end, giving O(log n) lookups.
+ */
+class OccupiedIntervals {
+
+    private final TreeMap<Long, Long> intervals = new TreeMap<>();
+
+    void add(long start, long end) {
+        Map.Entry<Long, Long> floor = intervals.floorEntry(start);
+        if (floor != null && floor.getValue() >= start - 1) {
+            start = floor.getKey();
+            end = Math.max(end, floor.getValue());
+        }
+
+        Map.Entry<Long, Long> next = intervals.ceilingEntry(start);
+        while (next != null && next.getKey() <= end + 1) {
+            end = Math.max(end, next.getValue());
+            intervals.remove(next.getKey());
+            next = intervals.higherEntry(next.getKey());
+        }
+        intervals.put(start, end);
+    }
+
+    boolean overlaps(long start, long end) {
+        Map.Entry<Long, Long> floor = intervals.floorEntry(end);
+        return floor != null && floor.getValue() >= start;
+    }
+
+    void clear() {
+        intervals.clear();
+    }
+}
\ No newline at end of file
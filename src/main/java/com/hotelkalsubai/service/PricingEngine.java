@@ -0,0 +1,205 @@
+package com.hotelkalsubai.service;
+
+import com.hotelkalsubai.config.PricingProperties;
+import com.hotelkalsubai.dto.room.RoomQuote;
+import com.hotelkalsubai.entity.Room;
+import com.hotelkalsubai.repository.RoomRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * Prices stays from per-room nightly rate tables held as prefix sums of paise, so any
+ * stay inside the horizon is priced with two array reads. Nightly rates apply the
+ * configured season adjustment and weekend uplift to the room's base price; the
+ * length-of-stay discount is applied to the stay total. Stays are limited to
+ * maxStayNights, which callers check with isStayLengthAllowed before quoting.
+ */
+@Service
+public class PricingEngine {
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private PricingProperties pricingProperties;
+
+    private volatile RateTables rateTables;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.pricing.rebuild-cron:0 5 0 * * *}")
+    public void rebuild() {
+        long originDay = LocalDate.now().toEpochDay();
+        int horizonDays = pricingProperties.getHorizonDays();
+        List<SeasonRange> seasons = parseSeasons();
+
+        // Season and weekend factors per day, in basis points of the base price
+        long[] dayFactors = new long[horizonDays];
+        for (int i = 0; i < horizonDays; i++) {
+            dayFactors[i] = dayFactor(LocalDate.ofEpochDay(originDay + i), seasons);
+        }
+
+        Map<Long, RoomRates> rooms = new HashMap<>();
+        for (Room room : roomRepository.findAll()) {
+            long basePaise = toPaise(room.getPricePerNight());
+            long[] prefix = new long[horizonDays + 1];
+            for (int i = 0; i < horizonDays; i++) {
+                prefix[i + 1] = prefix[i] + applyFactor(basePaise, dayFactors[i]);
+            }
+            rooms.put(room.getId(), new RoomRates(room.getId(), room.getName(), room.getIsAvailable(), basePaise, prefix));
+        }
+        rateTables = new RateTables(originDay, horizonDays, rooms, seasons);
+    }
+
+    public boolean isStayLengthAllowed(LocalDate checkIn, LocalDate checkOut) {
+        return ChronoUnit.DAYS.between(checkIn, checkOut) <= pricingProperties.getMaxStayNights();
+    }
+
+    public int getMaxStayNights() {
+        return pricingProperties.getMaxStayNights();
+    }
+
+    public BigDecimal quote(Room room, LocalDate checkIn, LocalDate checkOut) {
+        return BigDecimal.valueOf(quotePaise(room.getId(), toPaise(room.getPricePerNight()), checkIn, checkOut), 2);
+    }
+
+    public List<RoomQuote> quoteAll(LocalDate checkIn, LocalDate checkOut) {
+        RateTables tables = rateTables;
+        long nights = ChronoUnit.DAYS.between(checkIn, checkOut);
+        List<RoomQuote> quotes = new ArrayList<>();
+        if (tables == null) {
+            return quotes;
+        }
+        for (RoomRates rates : tables.rooms.values()) {
+            if (Boolean.TRUE.equals(rates.available)) {
+                long paise = quotePaise(rates.roomId, rates.basePaise, checkIn, checkOut);
+                quotes.add(new RoomQuote(rates.roomId, rates.roomName, nights, BigDecimal.valueOf(paise, 2)));
+            }
+        }
+        quotes.sort(Comparator.comparing(RoomQuote::getRoomId));
+        return quotes;
+    }
+
+    private long quotePaise(Long roomId, long basePaise, LocalDate checkIn, LocalDate checkOut) {
+        long nights = ChronoUnit.DAYS.between(checkIn, checkOut);
+        if (nights <= 0) {
+            return 0;
+        }
+
+        long total;
+        RateTables tables = rateTables;
+        RoomRates rates = tables != null ? tables.rooms.get(roomId) : null;
+        long from = tables != null ? checkIn.toEpochDay() - tables.originDay : -1;
+        long to = from + nights;
+        if (rates != null && rates.basePaise == basePaise && from >= 0 && to <= tables.horizonDays) {
+            total = rates.prefix[(int) to] - rates.prefix[(int) from];
+        } else {
+            // Outside the precomputed horizon, or the room price changed since the last rebuild
+            List<SeasonRange> seasons = tables != null ? tables.seasons : parseSeasons();
+            total = 0;
+            for (LocalDate night = checkIn; night.isBefore(checkOut); night = night.plusDays(1)) {
+                total += applyFactor(basePaise, dayFactor(night, seasons));
+            }
+        }
+        return total * (100 - stayDiscountPercent(nights)) / 100;
+    }
+
+    private long dayFactor(LocalDate date, List<SeasonRange> seasons) {
+        long factor = 100 + seasonAdjustmentPercent(MonthDay.from(date), seasons);
+        if (pricingProperties.getWeekendDays().contains(date.getDayOfWeek())) {
+            factor = factor * (100 + pricingProperties.getWeekendUpliftPercent());
+        } else {
+            factor = factor * 100;
+        }
+        return factor;
+    }
+
+    private static int seasonAdjustmentPercent(MonthDay day, List<SeasonRange> seasons) {
+        for (SeasonRange season : seasons) {
+            boolean inSeason = season.start.isAfter(season.end)
+                    ? !day.isBefore(season.start) || !day.isAfter(season.end)
+                    : !day.isBefore(season.start) && !day.isAfter(season.end);
+            if (inSeason) {
+                return season.adjustmentPercent;
+            }
+        }
+        return 0;
+    }
+
+    private List<SeasonRange> parseSeasons() {
+        List<SeasonRange> seasons = new ArrayList<>();
+        for (PricingProperties.Season season : pricingProperties.getSeasons()) {
+            seasons.add(new SeasonRange(MonthDay.parse("--" + season.getStart()), MonthDay.parse("--" + season.getEnd()),
+                    season.getAdjustmentPercent()));
+        }
+        return seasons;
+    }
+
+    private int stayDiscountPercent(long nights) {
+        int discount = 0;
+        for (PricingProperties.StayDiscount stayDiscount : pricingProperties.getStayDiscounts()) {
+            if (nights >= stayDiscount.getMinNights()) {
+                discount = Math.max(discount, stayDiscount.getDiscountPercent());
+            }
+        }
+        return discount;
+    }
+
+    private static long applyFactor(long basePaise, long factorBasisPoints) {
+        return (basePaise * factorBasisPoints + 5_000) / 10_000;
+    }
+
+    private static long toPaise(BigDecimal amount) {
+        return amount.movePointRight(2).longValue();
+    }
+
+    private static class RateTables {
+        private final long originDay;
+        private final int horizonDays;
+        private final Map<Long, RoomRates> rooms;
+        private final List<SeasonRange> seasons;
+
+        RateTables(long originDay, int horizonDays, Map<Long, RoomRates> rooms, List<SeasonRange> seasons) {
+            this.originDay = originDay;
+            this.horizonDays = horizonDays;
+            this.rooms = rooms;
+            this.seasons = seasons;
+        }
+    }
+
+    private static class SeasonRange {
+        private final MonthDay start;
+        private final MonthDay end;
+        private final int adjustmentPercent;
+
+        SeasonRange(MonthDay start, MonthDay end, int adjustmentPercent) {
+            this.start = start;
+            this.end = end;
+            this.adjustmentPercent = adjustmentPercent;
+        }
+    }
+
+    private static class RoomRates {
+        private final Long roomId;
+        private final String roomName;
+        private final Boolean available;
+        private final long basePaise;
+        private final long[] prefix;
+
+        RoomRates(Long roomId, String roomName, Boolean available, long basePaise, long[] prefix) {
+            this.roomId = roomId;
+            this.roomName = roomName;
+            this.available = available;
+            this.basePaise = basePaise;
+            this.prefix = prefix;
+        }
+    }
+}
\ No newline at end of file
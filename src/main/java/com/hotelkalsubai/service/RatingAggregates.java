@@ -0,0 +1,190 @@
+package com.hotelkalsubai.service;
+
+import com.hotelkalsubai.dto.feedback.MonthlyRating;
+import com.hotelkalsubai.dto.feedback.RatingFact;
+import com.hotelkalsubai.dto.feedback.RatingSummary;
+import com.hotelkalsubai.entity.Feedback;
+import com.hotelkalsubai.repository.FeedbackRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Running rating totals over approved feedback: sum, count, a 1-5 star histogram and
+ * per-month buckets. Loaded once at startup and adjusted by each feedback's contribution
+ * as it is submitted, approved or deleted, so reads never touch the table.
+ */
+@Component
+public class RatingAggregates {
+
+    @Autowired
+    private FeedbackRepository feedbackRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Contribution> contributions = new HashMap<>();
+    private final long[] histogram = new long[6];
+    private final TreeMap<YearMonth, long[]> months = new TreeMap<>();
+    private long count;
+    private long sum;
+
+    // Changes recorded while a rebuild is reading from the database, replayed over the loaded facts
+    private List<Change> pendingChanges;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<RatingFact> facts;
+        try {
+            facts = feedbackRepository.findApprovedRatingFacts();
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            contributions.clear();
+            Arrays.fill(histogram, 0);
+            months.clear();
+            count = 0;
+            sum = 0;
+            for (RatingFact fact : facts) {
+                add(new Contribution(fact.getFeedbackId(), fact.getRating(), fact.getSubmittedAt()));
+            }
+            for (Change change : pendingChanges) {
+                apply(change);
+            }
+            pendingChanges = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void record(Feedback feedback) {
+        Contribution contribution = Boolean.TRUE.equals(feedback.getIsApproved()) && feedback.getRating() != null
+                ? new Contribution(feedback.getId(), feedback.getRating(), feedback.getSubmittedAt())
+                : null;
+        submit(new Change(feedback.getId(), contribution));
+    }
+
+    public void delete(Long feedbackId) {
+        submit(new Change(feedbackId, null));
+    }
+
+    private void submit(Change change) {
+        lock.writeLock().lock();
+        try {
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+            apply(change);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Callers hold the write lock
+    private void apply(Change change) {
+        remove(change.feedbackId);
+        if (change.contribution != null) {
+            add(change.contribution);
+        }
+    }
+
+    public double getAverage() {
+        lock.readLock().lock();
+        try {
+            return count > 0 ? (double) sum / count : 0.0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public RatingSummary getSummary(int recentMonths) {
+        YearMonth from = YearMonth.now().minusMonths(recentMonths - 1L);
+
+        lock.readLock().lock();
+        try {
+            Map<Integer, Long> stars = new LinkedHashMap<>();
+            for (int rating = 5; rating >= 1; rating--) {
+                stars.put(rating, histogram[rating]);
+            }
+            List<MonthlyRating> monthly = new ArrayList<>();
+            months.tailMap(from, true).forEach((month, totals) ->
+                    monthly.add(new MonthlyRating(month, totals[0], (double) totals[1] / totals[0])));
+            return new RatingSummary(count, count > 0 ? (double) sum / count : 0.0, stars, monthly);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Callers hold the write lock
+    private void add(Contribution contribution) {
+        if (contribution.rating < 1 || contribution.rating > 5) {
+            return;
+        }
+        contributions.put(contribution.feedbackId, contribution);
+        histogram[contribution.rating]++;
+        count++;
+        sum += contribution.rating;
+        long[] totals = months.computeIfAbsent(contribution.month, month -> new long[2]);
+        totals[0]++;
+        totals[1] += contribution.rating;
+    }
+
+    // Callers hold the write lock
+    private void remove(Long feedbackId) {
+        Contribution contribution = contributions.remove(feedbackId);
+        if (contribution == null) {
+            return;
+        }
+        histogram[contribution.rating]--;
+        count--;
+        sum -= contribution.rating;
+        long[] totals = months.get(contribution.month);
+        totals[0]--;
+        totals[1] -= contribution.rating;
+        if (totals[0] == 0) {
+            months.remove(contribution.month);
+        }
+    }
+
+    private static class Change {
+        private final Long feedbackId;
+        private final Contribution contribution;
+
+        Change(Long feedbackId, Contribution contribution) {
+            this.feedbackId = feedbackId;
+            this.contribution = contribution;
+        }
+    }
+
+    private static class Contribution {
+        private final Long feedbackId;
+        private final int rating;
+        private final YearMonth month;
+
+        Contribution(Long feedbackId, int rating, LocalDateTime submittedAt) {
+            this.feedbackId = feedbackId;
+            this.rating = rating;
+            this.month = YearMonth.from(submittedAt != null ? submittedAt : LocalDateTime.now());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.hotelkalsubai.service;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-JVM locks serializing booking writes. In "striped" mode requests for the same room
+ * share a lock while other rooms proceed in parallel; "global" mode uses one lock for
+ * every room and is kept as the baseline to compare booking throughput against.
+ */
+@Component
+public class RoomBookingLocks {
+
+    @Value("${app.booking.lock-mode:striped}")
+    private String lockMode;
+
+    @Value("${app.booking.lock-stripes:64}")
+    private int stripeCount;
+
+    private final Lock globalLock = new ReentrantLock();
+    private Lock[] stripes;
+
+    @PostConstruct
+    public void init() {
+        stripes = new Lock[Math.max(1, stripeCount)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    public Lock lockFor(Long roomId) {
+        if ("global".equalsIgnoreCase(lockMode)) {
+            return globalLock;
+        }
+        return stripes[Math.floorMod(roomId.hashCode(), stripes.length)];
+    }
+}
\ No newline at end of file
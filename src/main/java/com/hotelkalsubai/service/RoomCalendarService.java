@@ -0,0 +1,113 @@
+package com.hotelkalsubai.service;
+
+import com.hotelkalsubai.dto.booking.BookingSpan;
+import com.hotelkalsubai.dto.room.MonthCalendar;
+import com.hotelkalsubai.dto.room.RoomOccupancy;
+import com.hotelkalsubai.entity.Room;
+import com.hotelkalsubai.repository.BookingRepository;
+import com.hotelkalsubai.repository.RoomRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class RoomCalendarService {
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Value("${app.calendar.cached-months:24}")
+    private int cachedMonths;
+
+    private final Map<YearMonth, MonthCalendar> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<YearMonth, MonthCalendar> eldest) {
+            return size() > cachedMonths;
+        }
+    };
+
+    // Bumped on every eviction so a calendar computed from data read before the eviction is not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    public List<MonthCalendar> getCalendars(YearMonth firstMonth, int months) {
+        List<MonthCalendar> calendars = new ArrayList<>(months);
+        for (int i = 0; i < months; i++) {
+            calendars.add(getCalendar(firstMonth.plusMonths(i)));
+        }
+        return calendars;
+    }
+
+    public MonthCalendar getCalendar(YearMonth month) {
+        synchronized (cache) {
+            MonthCalendar cached = cache.get(month);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        long seenGeneration = generation.get();
+        MonthCalendar calendar = buildCalendar(month);
+        synchronized (cache) {
+            if (generation.get() == seenGeneration) {
+                cache.put(month, calendar);
+            }
+        }
+        return calendar;
+    }
+
+    public void evict(LocalDate checkIn, LocalDate checkOut) {
+        synchronized (cache) {
+            generation.incrementAndGet();
+            for (YearMonth month = YearMonth.from(checkIn); !month.isAfter(YearMonth.from(checkOut)); month = month.plusMonths(1)) {
+                cache.remove(month);
+            }
+        }
+    }
+
+    public void evictAll() {
+        synchronized (cache) {
+            generation.incrementAndGet();
+            cache.clear();
+        }
+    }
+
+    private MonthCalendar buildCalendar(YearMonth month) {
+        LocalDate first = month.atDay(1);
+        LocalDate last = month.atEndOfMonth();
+        int days = month.lengthOfMonth();
+
+        List<Room> rooms = roomRepository.findByIsAvailableTrue();
+        Map<Long, byte[]> bitmaps = new HashMap<>();
+        for (Room room : rooms) {
+            bitmaps.put(room.getId(), new byte[(days + 7) / 8]);
+        }
+
+        // Single pass over every booking touching the month
+        for (BookingSpan span : bookingRepository.findActiveSpansForRange(first, last)) {
+            byte[] bitmap = bitmaps.get(span.getRoomId());
+            if (bitmap == null) {
+                continue;
+            }
+            int from = span.getCheckInDate().isBefore(first) ? 0 : span.getCheckInDate().getDayOfMonth() - 1;
+            int to = span.getCheckOutDate().isAfter(last) ? days - 1 : span.getCheckOutDate().getDayOfMonth() - 1;
+            for (int day = from; day <= to; day++) {
+                bitmap[day >> 3] |= (byte) (1 << (day & 7));
+            }
+        }
+
+        Base64.Encoder encoder = Base64.getEncoder();
+        List<RoomOccupancy> occupancy = new ArrayList<>(rooms.size());
+        for (Room room : rooms) {
+            occupancy.add(new RoomOccupancy(room.getId(), room.getName(), encoder.encodeToString(bitmaps.get(room.getId()))));
+        }
+        return new MonthCalendar(month.toString(), days, occupancy);
+    }
+}
\ No newline at end of file
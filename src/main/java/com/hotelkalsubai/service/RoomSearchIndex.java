@@ -0,0 +1,199 @@
+package com.hotelkalsubai.service;
+
+import com.hotelkalsubai.dto.room.RoomListing;
+import com.hotelkalsubai.dto.room.RoomSearchResult;
+import com.hotelkalsubai.entity.Room;
+import com.hotelkalsubai.repository.RoomRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory index of bookable rooms for faceted search. Amenities are numbered once per
+ * rebuild and each room carries them as a bitmask, so a required-amenities filter is a
+ * few word-wise ANDs. Facet counts for type and occupancy ignore their own filter so the
+ * client can offer the alternatives; amenity counts are over the matching rooms.
+ * Rooms are held as detached RoomListing copies, never as managed entities.
+ */
+@Component
+public class RoomSearchIndex {
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private AvailabilityIndex availabilityIndex;
+
+    private volatile Snapshot snapshot = new Snapshot(List.of(), Map.of(), List.of());
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        List<RoomListing> rooms = roomRepository.findByIsAvailableTrue().stream()
+                .map(RoomListing::of)
+                .toList();
+
+        Map<String, Integer> amenityBits = new HashMap<>();
+        List<String> amenityNames = new ArrayList<>();
+        for (RoomListing room : rooms) {
+            for (String amenity : room.getAmenities()) {
+                String key = normalize(amenity);
+                if (!key.isEmpty() && !amenityBits.containsKey(key)) {
+                    amenityBits.put(key, amenityNames.size());
+                    amenityNames.add(amenity.trim());
+                }
+            }
+        }
+
+        int words = (amenityNames.size() + 63) / 64;
+        List<Entry> entries = new ArrayList<>(rooms.size());
+        for (RoomListing room : rooms) {
+            long[] mask = new long[words];
+            for (String amenity : room.getAmenities()) {
+                Integer bit = amenityBits.get(normalize(amenity));
+                if (bit != null) {
+                    mask[bit >> 6] |= 1L << bit;
+                }
+            }
+            entries.add(new Entry(room, normalize(room.getType()), room.getMaxOccupancy(), toPaise(room.getPricePerNight()), mask));
+        }
+        entries.sort(Comparator.comparingLong(entry -> entry.pricePaise));
+        snapshot = new Snapshot(entries, amenityBits, amenityNames);
+    }
+
+    public RoomSearchResult search(String type, Integer guests, BigDecimal minPrice, BigDecimal maxPrice,
+                                   List<String> amenities, LocalDate checkIn, LocalDate checkOut) {
+        Snapshot current = snapshot;
+        String typeKey = type != null ? normalize(type) : null;
+        long minPaise = minPrice != null ? toPaise(minPrice) : Long.MIN_VALUE;
+        long maxPaise = maxPrice != null ? toPaise(maxPrice) : Long.MAX_VALUE;
+
+        long[] required = new long[(current.amenityNames.size() + 63) / 64];
+        boolean unknownAmenity = false;
+        if (amenities != null) {
+            for (String amenity : amenities) {
+                Integer bit = current.amenityBits.get(normalize(amenity));
+                if (bit != null) {
+                    required[bit >> 6] |= 1L << bit;
+                } else if (!normalize(amenity).isEmpty()) {
+                    unknownAmenity = true;
+                }
+            }
+        }
+
+        Set<Long> occupied = checkIn != null && checkOut != null ? occupiedRoomIds(current, checkIn, checkOut) : Set.of();
+
+        List<RoomListing> rooms = new ArrayList<>();
+        Map<String, Integer> typeCounts = new TreeMap<>();
+        Map<Integer, Integer> occupancyCounts = new TreeMap<>();
+        int[] amenityCounts = new int[current.amenityNames.size()];
+        long lowest = Long.MAX_VALUE;
+        long highest = Long.MIN_VALUE;
+
+        for (Entry entry : current.entries) {
+            boolean common = !unknownAmenity
+                    && entry.pricePaise >= minPaise && entry.pricePaise <= maxPaise
+                    && containsAll(entry.amenities, required)
+                    && !occupied.contains(entry.room.getId());
+            if (!common) {
+                continue;
+            }
+            boolean typeMatches = typeKey == null || typeKey.equals(entry.type);
+            boolean guestsFit = guests == null || (entry.maxOccupancy != null && entry.maxOccupancy >= guests);
+
+            if (guestsFit) {
+                typeCounts.merge(entry.room.getType(), 1, Integer::sum);
+            }
+            if (typeMatches && entry.maxOccupancy != null) {
+                occupancyCounts.merge(entry.maxOccupancy, 1, Integer::sum);
+            }
+            if (typeMatches && guestsFit) {
+                rooms.add(entry.room);
+                lowest = Math.min(lowest, entry.pricePaise);
+                highest = Math.max(highest, entry.pricePaise);
+                for (int bit = 0; bit < amenityCounts.length; bit++) {
+                    if ((entry.amenities[bit >> 6] & (1L << bit)) != 0) {
+                        amenityCounts[bit]++;
+                    }
+                }
+            }
+        }
+
+        Map<String, Integer> amenityFacets = new TreeMap<>();
+        for (int bit = 0; bit < amenityCounts.length; bit++) {
+            if (amenityCounts[bit] > 0) {
+                amenityFacets.put(current.amenityNames.get(bit), amenityCounts[bit]);
+            }
+        }
+
+        return new RoomSearchResult(rooms, typeCounts, occupancyCounts, amenityFacets,
+                rooms.isEmpty() ? null : BigDecimal.valueOf(lowest, 2),
+                rooms.isEmpty() ? null : BigDecimal.valueOf(highest, 2));
+    }
+
+    private Set<Long> occupiedRoomIds(Snapshot current, LocalDate checkIn, LocalDate checkOut) {
+        Optional<Set<Long>> occupied = availabilityIndex.findOccupiedRoomIds(checkIn, checkOut);
+        if (occupied.isPresent()) {
+            return occupied.get();
+        }
+        Set<Long> free = roomRepository.findAvailableRooms(checkIn, checkOut).stream()
+                .map(Room::getId)
+                .collect(Collectors.toSet());
+        return current.entries.stream()
+                .map(entry -> entry.room.getId())
+                .filter(id -> !free.contains(id))
+                .collect(Collectors.toSet());
+    }
+
+    private static boolean containsAll(long[] mask, long[] required) {
+        for (int i = 0; i < required.length; i++) {
+            if ((mask[i] & required[i]) != required[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static long toPaise(BigDecimal amount) {
+        return amount != null ? amount.movePointRight(2).longValue() : 0;
+    }
+
+    private static class Entry {
+        private final RoomListing room;
+        private final String type;
+        private final Integer maxOccupancy;
+        private final long pricePaise;
+        private final long[] amenities;
+
+        Entry(RoomListing room, String type, Integer maxOccupancy, long pricePaise, long[] amenities) {
+            this.room = room;
+            this.type = type;
+            this.maxOccupancy = maxOccupancy;
+            this.pricePaise = pricePaise;
+            this.amenities = amenities;
+        }
+    }
+
+    private static class Snapshot {
+        private final List<Entry> entries;
+        private final Map<String, Integer> amenityBits;
+        private final List<String> amenityNames;
+
+        Snapshot(List<Entry> entries, Map<String, Integer> amenityBits, List<String> amenityNames) {
+            this.entries = entries;
+            this.amenityBits = amenityBits;
+            this.amenityNames = amenityNames;
+        }
+    }
+}
\ No newline at end of file
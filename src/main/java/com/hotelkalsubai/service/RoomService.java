@@ -1,13 +1,23 @@
 package com.hotelkalsubai.service;
 
+import com.hotelkalsubai.config.CacheConfig;
+import com.hotelkalsubai.dto.CatalogStamp;
+import com.hotelkalsubai.dto.ResponseSnapshot;
 import com.hotelkalsubai.entity.Room;
 import com.hotelkalsubai.repository.RoomRepository;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 public class RoomService {
@@ -15,31 +25,97 @@ public class RoomService {
     @Autowired
     private RoomRepository roomRepository;
 
+    @Autowired
+    private ResponseSnapshots responseSnapshots;
+
+    @Autowired
+    private AvailabilityIndex availabilityIndex;
+
+    @Autowired
+    private RoomCalendarService roomCalendarService;
+
+    @Autowired
+    private PricingEngine pricingEngine;
+
+    @Autowired
+    private OccupancyReportService occupancyReportService;
+
+    @Autowired
+    private RoomSearchIndex roomSearchIndex;
+
+    // Calls through the proxy so internal reads of cached lists hit the cache
+    @Autowired
+    @Lazy
+    private RoomService self;
+
+    @Cacheable(cacheNames = CacheConfig.ROOMS, key = "'available'")
+    @Transactional(readOnly = true)
     public List<Room> getAllAvailableRooms() {
-        return roomRepository.findByIsAvailableTrue();
+        return initializeCollections(roomRepository.findByIsAvailableTrue());
     }
 
     public List<Room> getAvailableRooms(LocalDate checkIn, LocalDate checkOut) {
-        return roomRepository.findAvailableRooms(checkIn, checkOut);
+        Optional<Set<Long>> occupied = availabilityIndex.findOccupiedRoomIds(checkIn, checkOut);
+        if (occupied.isEmpty()) {
+            return roomRepository.findAvailableRooms(checkIn, checkOut);
+        }
+
+        Set<Long> occupiedRoomIds = occupied.get();
+        return self.getAllAvailableRooms().stream()
+                .filter(room -> !occupiedRoomIds.contains(room.getId()))
+                .collect(Collectors.toList());
     }
 
     public Optional<Room> getRoomById(Long id) {
         return roomRepository.findById(id);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.ROOMS, allEntries = true)
     public Room saveRoom(Room room) {
-        return roomRepository.save(room);
+        Room savedRoom = roomRepository.save(room);
+        roomCalendarService.evictAll();
+        pricingEngine.rebuild();
+        occupancyReportService.refreshRoomCount();
+        roomSearchIndex.rebuild();
+        return savedRoom;
     }
 
+    @CacheEvict(cacheNames = CacheConfig.ROOMS, allEntries = true)
     public void deleteRoom(Long id) {
         roomRepository.deleteById(id);
+        roomCalendarService.evictAll();
+        pricingEngine.rebuild();
+        occupancyReportService.refreshRoomCount();
+        roomSearchIndex.rebuild();
     }
 
     public List<Room> getAllRooms() {
         return roomRepository.findAll();
     }
 
+    @Cacheable(cacheNames = CacheConfig.ROOMS, key = "'type:' + #type")
+    @Transactional(readOnly = true)
     public List<Room> getRoomsByType(String type) {
-        return roomRepository.findByType(type);
+        return initializeCollections(roomRepository.findByType(type));
+    }
+
+    // Cached rooms outlive the session, so their lazy collections must be loaded up front
+    private List<Room> initializeCollections(List<Room> rooms) {
+        rooms.forEach(room -> {
+            Hibernate.initialize(room.getAmenities());
+            Hibernate.initialize(room.getImages());
+        });
+        return rooms;
+    }
+
+    @Cacheable(cacheNames = CacheConfig.ROOMS, key = "'stamp'")
+    public CatalogStamp getCatalogStamp() {
+        return roomRepository.findCatalogStamp();
+    }
+
+    @Cacheable(cacheNames = CacheConfig.ROOMS, key = "'snapshot'")
+    @Transactional(readOnly = true)
+    public ResponseSnapshot getRoomSnapshot() {
+        return responseSnapshots.create("Rooms retrieved successfully", initializeCollections(roomRepository.findByIsAvailableTrue()));
     }
 }
\ No newline at end of file
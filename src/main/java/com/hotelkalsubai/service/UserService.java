@@ -1,14 +1,19 @@
 package com.hotelkalsubai.service;
 
+import com.hotelkalsubai.dto.CursorPage;
+import com.hotelkalsubai.dto.PageCursor;
+import com.hotelkalsubai.dto.admin.UserRole;
+import com.hotelkalsubai.dto.admin.UserView;
 import com.hotelkalsubai.entity.User;
 import com.hotelkalsubai.repository.UserRepository;
+import com.hotelkalsubai.security.TokenVersions;
+import com.hotelkalsubai.security.UserDetailsServiceImpl;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-import java.util.Optional;
-import java.util.Set;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
 public class UserService {
@@ -19,6 +24,12 @@ public class UserService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private TokenVersions tokenVersions;
+
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+
     public User createUser(String username, String email, String password, String phoneNumber, Set<User.Role> roles) {
         User user = new User(username, email, passwordEncoder.encode(password));
         user.setPhoneNumber(phoneNumber);
@@ -42,8 +53,24 @@ public class UserService {
         return userRepository.existsByEmail(email);
     }
 
-    public List<User> getAllUsers() {
-        return userRepository.findAll();
+    public CursorPage<UserView> getUsersPage(String cursor, int limit) {
+        int pageSize = CursorPage.clampLimit(limit);
+        List<UserView> rows;
+        if (cursor == null) {
+            rows = userRepository.findLatest(CursorPage.request(pageSize));
+        } else {
+            PageCursor position = PageCursor.decode(cursor);
+            rows = userRepository.findLatestBefore(position.getTimestamp(), position.getId(), CursorPage.request(pageSize));
+        }
+        if (!rows.isEmpty()) {
+            // Roles for the whole page in one query
+            Map<Long, Set<User.Role>> rolesByUser = userRepository.findRolesByUserIds(
+                    rows.stream().map(UserView::getId).collect(Collectors.toList())).stream()
+                    .collect(Collectors.groupingBy(UserRole::getUserId,
+                            Collectors.mapping(UserRole::getRole, Collectors.toCollection(() -> EnumSet.noneOf(User.Role.class)))));
+            rows.forEach(view -> view.setRoles(rolesByUser.getOrDefault(view.getId(), Set.of())));
+        }
+        return CursorPage.of(rows, pageSize, UserView::getCreatedAt, UserView::getId);
     }
 
     public User updateUserRole(Long userId, User.Role role) {
@@ -58,13 +85,21 @@ public class UserService {
         } else {
             user.setRoles(Set.of(User.Role.ROLE_USER));
         }
-        return userRepository.save(user);
+        // Tokens carry the roles they were issued with, so earlier ones must stop working
+        user.setTokenVersion((user.getTokenVersion() != null ? user.getTokenVersion() : 0) + 1);
+        User savedUser = userRepository.save(user);
+        tokenVersions.invalidate(userId);
+        userDetailsService.evict(savedUser);
+        return savedUser;
     }
 
     public void deleteUser(Long userId) {
-        if (!userRepository.existsById(userId)) {
+        Optional<User> userOpt = userRepository.findById(userId);
+        if (userOpt.isEmpty()) {
             throw new RuntimeException("User not found");
         }
         userRepository.deleteById(userId);
+        tokenVersions.invalidate(userId);
+        userDetailsService.evict(userOpt.get());
     }
 }
\ No newline at end of file
@@ -0,0 +1,95 @@
+package com.hotelkalsubai.repository;
+
+import com.hotelkalsubai.entity.Room;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class RoomRepositoryTest {
+
+    private static final int ROOM_COUNT = 25;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void roomListingsLoadCollectionsInBoundedStatements() {
+        persistRooms();
+        Statistics statistics = statistics();
+
+        List<Room> rooms = roomRepository.findByIsAvailableTrue();
+        touchCollections(rooms);
+
+        assertThat(rooms).hasSize(ROOM_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void dateAvailabilityLoadsCollectionsInBoundedStatements() {
+        persistRooms();
+        Statistics statistics = statistics();
+        LocalDate checkIn = LocalDate.now().plusDays(3);
+
+        List<Room> rooms = roomRepository.findAvailableRooms(checkIn, checkIn.plusDays(2));
+        touchCollections(rooms);
+
+        assertThat(rooms).hasSize(ROOM_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void roomsByTypeLoadCollectionsInBoundedStatements() {
+        persistRooms();
+        Statistics statistics = statistics();
+
+        List<Room> rooms = roomRepository.findByType("deluxe");
+        touchCollections(rooms);
+
+        assertThat(rooms).hasSize(ROOM_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+
+    private void persistRooms() {
+        for (int i = 1; i <= ROOM_COUNT; i++) {
+            Room room = new Room("Room " + i, "deluxe", null, new BigDecimal("3000.00"), 2);
+            room.setAmenities(List.of("WiFi", "AC"));
+            room.setImages(List.of("/images/rooms/" + i + "-1.jpg", "/images/rooms/" + i + "-2.jpg"));
+            entityManager.persist(room);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private static void touchCollections(List<Room> rooms) {
+        rooms.forEach(room -> {
+            assertThat(room.getAmenities()).hasSize(2);
+            assertThat(room.getImages()).hasSize(2);
+        });
+    }
+}
\ No newline at end of file
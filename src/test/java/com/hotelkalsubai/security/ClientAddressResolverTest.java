@@ -0,0 +1,48 @@
+package com.hotelkalsubai.security;
+
+import com.hotelkalsubai.config.RateLimitProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClientAddressResolverTest {
+
+    private final RateLimitProperties properties = new RateLimitProperties();
+    private final ClientAddressResolver resolver = new ClientAddressResolver();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(resolver, "properties", properties);
+    }
+
+    @Test
+    void ignoresForwardedForUnlessTrusted() {
+        assertThat(resolver.resolve(request("198.51.100.7"))).isEqualTo("10.0.0.2");
+    }
+
+    @Test
+    void takesTheEntryAppendedByTheTrustedProxy() {
+        properties.setTrustForwardedFor(true);
+
+        assertThat(resolver.resolve(request("203.0.113.9"))).isEqualTo("203.0.113.9");
+        assertThat(resolver.resolve(request("1.2.3.4, 203.0.113.9"))).isEqualTo("203.0.113.9");
+    }
+
+    @Test
+    void countsTrustedHopsFromTheRight() {
+        properties.setTrustForwardedFor(true);
+        properties.setTrustedProxyHops(2);
+
+        assertThat(resolver.resolve(request("1.2.3.4, 203.0.113.9, 10.0.0.1"))).isEqualTo("203.0.113.9");
+    }
+
+    private static MockHttpServletRequest request(String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("10.0.0.2");
+        request.addHeader("X-Forwarded-For", forwardedFor);
+        return request;
+    }
+}
\ No newline at end of file
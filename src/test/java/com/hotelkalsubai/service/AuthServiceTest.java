@@ -0,0 +1,88 @@
+package com.hotelkalsubai.service;
+
+import com.hotelkalsubai.entity.AuthToken;
+import com.hotelkalsubai.entity.User;
+import com.hotelkalsubai.exception.PasswordHashingBusyException;
+import com.hotelkalsubai.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuthServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private AuthTokenStore authTokenStore;
+
+    @InjectMocks
+    private AuthService authService;
+
+    @Test
+    void invalidResetTokenIsRejectedBeforeHashing() {
+        when(authTokenStore.find(AuthToken.Purpose.PASSWORD_RESET, "bogus")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> authService.resetPassword("bogus", "new-password"))
+                .hasMessage("Invalid reset token");
+        verifyNoInteractions(passwordEncoder);
+    }
+
+    @Test
+    void resetTokenSurvivesBusyHashingPool() {
+        when(authTokenStore.find(AuthToken.Purpose.PASSWORD_RESET, "reset-token"))
+                .thenReturn(Optional.of(validToken(AuthToken.Purpose.PASSWORD_RESET)));
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user()));
+        when(passwordEncoder.encode("new-password")).thenThrow(new PasswordHashingBusyException());
+
+        assertThatThrownBy(() -> authService.resetPassword("reset-token", "new-password"))
+                .isInstanceOf(PasswordHashingBusyException.class);
+        verify(authTokenStore, never()).consume(any(), any());
+    }
+
+    @Test
+    void wrongOtpIsRejectedBeforeHashing() {
+        when(userRepository.findByPhoneNumber("9999999999")).thenReturn(Optional.of(user()));
+        when(authTokenStore.verify(AuthToken.Purpose.PHONE_OTP, 7L, "7:000000")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> authService.verifyOtpForPasswordReset("9999999999", "000000", "new-password"))
+                .hasMessage("Invalid OTP");
+        verifyNoInteractions(passwordEncoder);
+    }
+
+    @Test
+    void otpSurvivesBusyHashingPool() {
+        when(userRepository.findByPhoneNumber("9999999999")).thenReturn(Optional.of(user()));
+        when(authTokenStore.verify(AuthToken.Purpose.PHONE_OTP, 7L, "7:123456"))
+                .thenReturn(Optional.of(validToken(AuthToken.Purpose.PHONE_OTP)));
+        when(passwordEncoder.encode("new-password")).thenThrow(new PasswordHashingBusyException());
+
+        assertThatThrownBy(() -> authService.verifyOtpForPasswordReset("9999999999", "123456", "new-password"))
+                .isInstanceOf(PasswordHashingBusyException.class);
+        verify(authTokenStore, never()).consume(any(), any());
+    }
+
+    private static User user() {
+        User user = new User("guest", "guest@example.com", "hash");
+        user.setId(7L);
+        return user;
+    }
+
+    private static AuthTokenStore.StoredToken validToken(AuthToken.Purpose purpose) {
+        return new AuthTokenStore.StoredToken(7L, purpose, LocalDateTime.now().plusMinutes(5));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,88 @@
+package com.hotelkalsubai.service;
+
+import com.hotelkalsubai.entity.AuthToken;
+import com.hotelkalsubai.repository.AuthTokenRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class AuthTokenStoreTest {
+
+    @Autowired
+    private AuthTokenRepository authTokenRepository;
+
+    @Test
+    void tokenIsConsumedOnlyOnceInMemory() {
+        AuthTokenStore store = newStore(false);
+        store.issue(AuthToken.Purpose.PASSWORD_RESET, 1L, "reset-token", Duration.ofHours(1));
+
+        assertThat(store.consume(AuthToken.Purpose.PASSWORD_RESET, "reset-token")).isPresent();
+        assertThat(store.consume(AuthToken.Purpose.PASSWORD_RESET, "reset-token")).isEmpty();
+    }
+
+    @Test
+    void persistedTokenConsumedElsewhereCannotBeReplayedByItsIssuer() {
+        AuthTokenStore issuer = newStore(true);
+        AuthTokenStore other = newStore(true);
+        issuer.issue(AuthToken.Purpose.PASSWORD_RESET, 1L, "reset-token", Duration.ofHours(1));
+
+        assertThat(other.consume(AuthToken.Purpose.PASSWORD_RESET, "reset-token"))
+                .hasValueSatisfying(token -> assertThat(token.getUserId()).isEqualTo(1L));
+        assertThat(issuer.consume(AuthToken.Purpose.PASSWORD_RESET, "reset-token")).isEmpty();
+        assertThat(other.consume(AuthToken.Purpose.PASSWORD_RESET, "reset-token")).isEmpty();
+    }
+
+    @Test
+    void findLeavesTheTokenUsable() {
+        for (boolean persist : new boolean[] {false, true}) {
+            AuthTokenStore store = newStore(persist);
+            store.issue(AuthToken.Purpose.PASSWORD_RESET, 1L, "reset-token", Duration.ofHours(1));
+
+            assertThat(store.find(AuthToken.Purpose.PASSWORD_RESET, "reset-token")).isPresent();
+            assertThat(store.find(AuthToken.Purpose.PASSWORD_RESET, "other-token")).isEmpty();
+            assertThat(store.consume(AuthToken.Purpose.PASSWORD_RESET, "reset-token")).isPresent();
+            assertThat(store.find(AuthToken.Purpose.PASSWORD_RESET, "reset-token")).isEmpty();
+        }
+    }
+
+    @Test
+    void reissuedTokenRevokesThePreviousOneOnEveryInstance() {
+        AuthTokenStore issuer = newStore(true);
+        AuthTokenStore other = newStore(true);
+        issuer.issue(AuthToken.Purpose.PHONE_OTP, 1L, "1:111111", Duration.ofMinutes(5));
+        other.issue(AuthToken.Purpose.PHONE_OTP, 1L, "1:222222", Duration.ofMinutes(5));
+
+        assertThat(issuer.consume(AuthToken.Purpose.PHONE_OTP, "1:111111")).isEmpty();
+        assertThat(issuer.consume(AuthToken.Purpose.PHONE_OTP, "1:222222")).isPresent();
+    }
+
+    @Test
+    void otpIsRevokedAfterTooManyWrongCodes() {
+        for (boolean persist : new boolean[] {false, true}) {
+            AuthTokenStore store = newStore(persist);
+            store.issue(AuthToken.Purpose.PHONE_OTP, 1L, "1:123456", Duration.ofMinutes(5));
+            for (int i = 0; i < 4; i++) {
+                assertThat(store.verify(AuthToken.Purpose.PHONE_OTP, 1L, "1:00000" + i)).isEmpty();
+            }
+            assertThat(store.verify(AuthToken.Purpose.PHONE_OTP, 1L, "1:123456")).isPresent();
+
+            assertThat(store.verify(AuthToken.Purpose.PHONE_OTP, 1L, "1:000004")).isEmpty();
+            assertThat(store.verify(AuthToken.Purpose.PHONE_OTP, 1L, "1:123456")).isEmpty();
+            assertThat(store.consume(AuthToken.Purpose.PHONE_OTP, "1:123456")).isEmpty();
+        }
+    }
+
+    private AuthTokenStore newStore(boolean persist) {
+        AuthTokenStore store = new AuthTokenStore();
+        ReflectionTestUtils.setField(store, "authTokenRepository", authTokenRepository);
+        ReflectionTestUtils.setField(store, "persist", persist);
+        ReflectionTestUtils.setField(store, "maxAttempts", 5);
+        return store;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.hotelkalsubai.service;
+
+import com.hotelkalsubai.dto.blog.BlogSearchResult;
+import com.hotelkalsubai.entity.BlogPost;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BlogSearchIndexTest {
+
+    private final BlogSearchIndex blogSearchIndex = new BlogSearchIndex();
+
+    @BeforeEach
+    void setUp() {
+        for (long id = 1; id <= 3; id++) {
+            BlogPost post = new BlogPost("Monsoon trek " + id, "Trekking to Kalsubai peak in the monsoon", "Admin", "Trek notes");
+            post.setId(id);
+            post.setIsPublished(true);
+            blogSearchIndex.update(post);
+        }
+    }
+
+    @Test
+    void pagesThroughRankedResults() {
+        BlogSearchResult first = blogSearchIndex.search("monsoon trek", 0, 2);
+        BlogSearchResult second = blogSearchIndex.search("monsoon trek", 1, 2);
+
+        assertThat(first.getItems()).hasSize(2);
+        assertThat(second.getItems()).hasSize(1);
+        assertThat(first.getTotal()).isEqualTo(3);
+    }
+
+    @Test
+    void pageFarPastTheEndIsEmpty() {
+        BlogSearchResult result = blogSearchIndex.search("monsoon trek", Integer.MAX_VALUE, 50);
+
+        assertThat(result.getItems()).isEmpty();
+        assertThat(result.getTotal()).isEqualTo(3);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.hotelkalsubai.service;
+
+import com.hotelkalsubai.entity.Booking;
+import com.hotelkalsubai.entity.Room;
+import com.hotelkalsubai.repository.BookingRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BookingExportServiceTest {
+
+    private final BookingRepository bookingRepository = mock(BookingRepository.class);
+    private BookingExportService bookingExportService;
+
+    @BeforeEach
+    void setUp() {
+        bookingExportService = new BookingExportService(mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(bookingExportService, "bookingRepository", bookingRepository);
+        ReflectionTestUtils.setField(bookingExportService, "entityManager", mock(EntityManager.class));
+    }
+
+    @Test
+    void csvKeepsPhoneNumbersAndNeutralizesFormulas() {
+        Room room = new Room("Room 1", "deluxe", null, new BigDecimal("3000.00"), 2);
+        room.setId(1L);
+        LocalDate checkIn = LocalDate.of(2026, 11, 1);
+        Booking booking = new Booking(room, "=HYPERLINK(\"http://x\")", "+91 98765-43210", "guest@example.com",
+                checkIn, checkIn.plusDays(2), new BigDecimal("6000.00"));
+        booking.setId(5L);
+        booking.setSpecialRequests("\t=1+2");
+        booking.setPaymentId("+SUM(A1)");
+        when(bookingRepository.streamAllForExport()).thenReturn(Stream.of(booking));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        bookingExportService.export(output, BookingExportService.Format.CSV, null, null);
+        String row = output.toString(StandardCharsets.UTF_8).split("\r\n")[1];
+
+        assertThat(row).contains(",\"'=HYPERLINK(\"\"http://x\"\")\",+91 98765-43210,");
+        assertThat(row).contains(",'+SUM(A1),'\t=1+2,");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.hotelkalsubai.service;
+
+import com.hotelkalsubai.dto.booking.BookingHold;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BookingHoldServiceTest {
+
+    private final LocalDate checkIn = LocalDate.now().plusDays(7);
+    private final LocalDate checkOut = checkIn.plusDays(2);
+
+    private BookingHoldService bookingHoldService;
+
+    @BeforeEach
+    void setUp() {
+        bookingHoldService = new BookingHoldService();
+        ReflectionTestUtils.setField(bookingHoldService, "holdMinutes", 10L);
+        ReflectionTestUtils.setField(bookingHoldService, "wheelTickMillis", 1000L);
+        ReflectionTestUtils.setField(bookingHoldService, "wheelSize", 64);
+        ReflectionTestUtils.setField(bookingHoldService, "maxActiveHolds", 4);
+        ReflectionTestUtils.setField(bookingHoldService, "maxHoldsPerClient", 2);
+        bookingHoldService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookingHoldService.shutdown();
+    }
+
+    @Test
+    void limitsHoldsPerClientUntilOneIsReleased() {
+        BookingHold first = bookingHoldService.place(1L, checkIn, checkOut, "10.0.0.1");
+        bookingHoldService.place(2L, checkIn, checkOut, "10.0.0.1");
+
+        assertThatThrownBy(() -> bookingHoldService.place(3L, checkIn, checkOut, "10.0.0.1"))
+                .isInstanceOf(RuntimeException.class);
+
+        assertThat(bookingHoldService.release(first.getHoldId())).isTrue();
+        assertThat(bookingHoldService.place(3L, checkIn, checkOut, "10.0.0.1")).isNotNull();
+    }
+
+    @Test
+    void limitsActiveHoldsInTotal() {
+        bookingHoldService.place(1L, checkIn, checkOut, "10.0.0.1");
+        bookingHoldService.place(2L, checkIn, checkOut, "10.0.0.1");
+        bookingHoldService.place(3L, checkIn, checkOut, "10.0.0.2");
+        bookingHoldService.place(4L, checkIn, checkOut, "10.0.0.2");
+
+        assertThatThrownBy(() -> bookingHoldService.place(5L, checkIn, checkOut, "10.0.0.3"))
+                .isInstanceOf(RuntimeException.class);
+        assertThat(bookingHoldService.isHeldByOther(5L, checkIn, checkOut, null)).isFalse();
+    }
+}
\ No newline at end of file
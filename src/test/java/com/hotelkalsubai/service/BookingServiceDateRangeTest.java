@@ -0,0 +1,79 @@
+package com.hotelkalsubai.service;
+
+import com.hotelkalsubai.dto.CursorPage;
+import com.hotelkalsubai.dto.booking.BookingView;
+import com.hotelkalsubai.entity.Booking;
+import com.hotelkalsubai.entity.Room;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import(BookingService.class)
+class BookingServiceDateRangeTest {
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @MockBean
+    private AvailabilityIndex availabilityIndex;
+
+    @MockBean
+    private RoomBookingLocks roomBookingLocks;
+
+    @MockBean
+    private RoomCalendarService roomCalendarService;
+
+    @MockBean
+    private BookingHoldService bookingHoldService;
+
+    @MockBean
+    private PricingEngine pricingEngine;
+
+    @MockBean
+    private OccupancyReportService occupancyReportService;
+
+    @Test
+    void pagesThroughTheRangeInCheckInOrder() {
+        Room room = entityManager.persist(new Room("Room 1", "deluxe", null, new BigDecimal("3000.00"), 2));
+        LocalDate start = LocalDate.of(2026, 12, 1);
+        List<Long> expected = new ArrayList<>();
+        // Two bookings share each check-in date so pages split within a day
+        for (int day = 0; day < 3; day++) {
+            for (int i = 0; i < 2; i++) {
+                Booking booking = new Booking(room, "Guest", "9999999999", "guest@example.com",
+                        start.plusDays(day), start.plusDays(day + 1), new BigDecimal("3000.00"));
+                expected.add(entityManager.persist(booking).getId());
+            }
+        }
+        entityManager.persist(new Booking(room, "Guest", "9999999999", "guest@example.com",
+                start.plusDays(10), start.plusDays(11), new BigDecimal("3000.00")));
+        entityManager.flush();
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPage<BookingView> page = bookingService.getBookingsByDateRange(start, start.plusDays(2), cursor, 4);
+            page.getItems().forEach(view -> seen.add(view.getId()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(seen).containsExactlyElementsOf(expected);
+        assertThat(pages).isEqualTo(2);
+    }
+}
\ No newline at end of file
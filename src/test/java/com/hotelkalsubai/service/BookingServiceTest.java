@@ -0,0 +1,204 @@
+package com.hotelkalsubai.service;
+
+import com.hotelkalsubai.entity.Booking;
+import com.hotelkalsubai.entity.Room;
+import com.hotelkalsubai.repository.BookingRepository;
+import com.hotelkalsubai.repository.RoomRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookingServiceTest {
+
+    private final LocalDate checkIn = LocalDate.now().plusDays(10);
+    private final LocalDate checkOut = checkIn.plusDays(2);
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private AvailabilityIndex availabilityIndex;
+
+    @Mock
+    private RoomCalendarService roomCalendarService;
+
+    @Mock
+    private BookingHoldService bookingHoldService;
+
+    @Mock
+    private PricingEngine pricingEngine;
+
+    @Mock
+    private OccupancyReportService occupancyReportService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private BookingService bookingService;
+
+    // Stands in for the bookings table
+    private final List<Booking> savedBookings = new CopyOnWriteArrayList<>();
+    private final AtomicLong bookingIds = new AtomicLong();
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        useLockMode("striped");
+
+        when(pricingEngine.isStayLengthAllowed(any(), any())).thenReturn(true);
+        when(pricingEngine.quote(any(), any(), any())).thenReturn(new BigDecimal("6000.00"));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Booking>>getArgument(0).doInTransaction(null));
+        when(roomRepository.findByIdForUpdate(anyLong())).thenAnswer(invocation -> Optional.of(room(invocation.getArgument(0))));
+        // Inclusive like the query: checkInDate <= :checkOut AND checkOutDate >= :checkIn
+        when(bookingRepository.existsConflictingBooking(anyLong(), any(), any())).thenAnswer(invocation ->
+                savedBookings.stream().anyMatch(booking -> booking.getRoom().getId().equals(invocation.getArgument(0))
+                        && !booking.getCheckInDate().isAfter(invocation.getArgument(2))
+                        && !booking.getCheckOutDate().isBefore(invocation.getArgument(1))));
+
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void bookingsForDifferentRoomsDoNotSerialize() throws Exception {
+        CountDownLatch bothInserting = new CountDownLatch(2);
+        when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> {
+            // Each insert waits until the other room's insert is in flight too
+            bothInserting.countDown();
+            if (!bothInserting.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Bookings for different rooms were serialized");
+            }
+            return store(invocation.getArgument(0));
+        });
+
+        Future<Booking> first = executor.submit(() -> book(1L));
+        Future<Booking> second = executor.submit(() -> book(2L));
+
+        assertThat(first.get(10, TimeUnit.SECONDS).getRoom().getId()).isEqualTo(1L);
+        assertThat(second.get(10, TimeUnit.SECONDS).getRoom().getId()).isEqualTo(2L);
+    }
+
+    @Test
+    void concurrentBookingsForTheSameRoomNeverDoubleBook() throws Exception {
+        when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> {
+            // Widen the window between the conflict check and the insert
+            Thread.sleep(20);
+            return store(invocation.getArgument(0));
+        });
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Booking>> attempts = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            attempts.add(executor.submit(() -> {
+                start.await();
+                return book(7L);
+            }));
+        }
+        start.countDown();
+
+        int succeeded = 0;
+        for (Future<Booking> attempt : attempts) {
+            try {
+                attempt.get(10, TimeUnit.SECONDS);
+                succeeded++;
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).hasMessage("Room is not available for the selected dates");
+            }
+        }
+
+        assertThat(succeeded).isEqualTo(1);
+        assertThat(savedBookings).hasSize(1);
+    }
+
+    @Test
+    void stripedLocksOutperformTheGlobalLockAcrossRooms() throws Exception {
+        when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> {
+            // Stands in for the insert round trip
+            Thread.sleep(25);
+            return store(invocation.getArgument(0));
+        });
+
+        useLockMode("global");
+        long globalNanos = bookRoomsInParallel(1);
+        useLockMode("striped");
+        long stripedNanos = bookRoomsInParallel(17);
+
+        assertThat(savedBookings).hasSize(32);
+        // 16 bookings on 8 threads: the global lock runs them one at a time, stripes run them 8 at a time
+        assertThat(stripedNanos).isLessThan(globalNanos / 2);
+    }
+
+    private long bookRoomsInParallel(long firstRoomId) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Booking>> attempts = new ArrayList<>();
+        for (long roomId = firstRoomId; roomId < firstRoomId + 16; roomId++) {
+            Long room = roomId;
+            attempts.add(executor.submit(() -> {
+                start.await();
+                return book(room);
+            }));
+        }
+        long started = System.nanoTime();
+        start.countDown();
+        for (Future<Booking> attempt : attempts) {
+            attempt.get(30, TimeUnit.SECONDS);
+        }
+        return System.nanoTime() - started;
+    }
+
+    private void useLockMode(String lockMode) {
+        RoomBookingLocks roomBookingLocks = new RoomBookingLocks();
+        ReflectionTestUtils.setField(roomBookingLocks, "lockMode", lockMode);
+        ReflectionTestUtils.setField(roomBookingLocks, "stripeCount", 64);
+        roomBookingLocks.init();
+        ReflectionTestUtils.setField(bookingService, "roomBookingLocks", roomBookingLocks);
+    }
+
+    private Booking book(Long roomId) {
+        return bookingService.createBooking(roomId, "Guest", "9999999999", "guest@example.com",
+                checkIn, checkOut, null, null);
+    }
+
+    private Booking store(Booking booking) {
+        booking.setId(bookingIds.incrementAndGet());
+        savedBookings.add(booking);
+        return booking;
+    }
+
+    private static Room room(Long id) {
+        Room room = new Room("Room " + id, "deluxe", null, new BigDecimal("3000.00"), 2);
+        room.setId(id);
+        return room;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.hotelkalsubai.service;
+
+import com.hotelkalsubai.dto.report.BookingFact;
+import com.hotelkalsubai.dto.report.DailyOccupancy;
+import com.hotelkalsubai.entity.Booking;
+import com.hotelkalsubai.entity.Room;
+import com.hotelkalsubai.repository.BookingRepository;
+import com.hotelkalsubai.repository.RoomRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OccupancyReportServiceTest {
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @InjectMocks
+    private OccupancyReportService occupancyReportService;
+
+    @Test
+    void bookingRecordedDuringRebuildSurvivesIt() {
+        LocalDate checkIn = LocalDate.now().plusDays(5);
+        Room room = new Room("Room 1", "deluxe", null, new BigDecimal("3000.00"), 2);
+        Booking booking = new Booking(room, "Guest", "9999999999", "guest@example.com",
+                checkIn, checkIn.plusDays(2), new BigDecimal("6000.00"));
+        booking.setId(2L);
+
+        when(roomRepository.count()).thenReturn(4L);
+        when(bookingRepository.findAllFacts()).thenAnswer(invocation -> {
+            // Committed after the facts query started reading
+            occupancyReportService.recordBooking(booking);
+            return List.of(new BookingFact(1L, "deluxe", checkIn, checkIn.plusDays(1), new BigDecimal("3000.00"),
+                    Booking.BookingStatus.CONFIRMED, Booking.PaymentStatus.PAID));
+        });
+
+        occupancyReportService.rebuild();
+
+        List<DailyOccupancy> report = occupancyReportService.getDailyOccupancy(checkIn, checkIn.plusDays(1));
+        assertThat(report).extracting(DailyOccupancy::getRoomsSold).containsExactly(2, 1);
+        assertThat(report.get(0).getRevenue()).isEqualByComparingTo("6000.00");
+    }
+}
\ No newline at end of file
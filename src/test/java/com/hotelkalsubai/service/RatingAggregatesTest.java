@@ -0,0 +1,47 @@
+package com.hotelkalsubai.service;
+
+import com.hotelkalsubai.dto.feedback.RatingFact;
+import com.hotelkalsubai.entity.Feedback;
+import com.hotelkalsubai.repository.FeedbackRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RatingAggregatesTest {
+
+    @Mock
+    private FeedbackRepository feedbackRepository;
+
+    @InjectMocks
+    private RatingAggregates ratingAggregates;
+
+    @Test
+    void changesRecordedDuringRebuildSurviveIt() {
+        LocalDateTime now = LocalDateTime.now();
+        Feedback approved = new Feedback("Guest", "guest@example.com", 5, "Lovely stay");
+        approved.setId(3L);
+        approved.setIsApproved(true);
+        approved.setSubmittedAt(now);
+
+        when(feedbackRepository.findApprovedRatingFacts()).thenAnswer(invocation -> {
+            // Approved and deleted after the facts query started reading
+            ratingAggregates.record(approved);
+            ratingAggregates.delete(2L);
+            return List.of(new RatingFact(1L, 3, now), new RatingFact(2L, 1, now));
+        });
+
+        ratingAggregates.rebuild();
+
+        assertThat(ratingAggregates.getSummary(1).getCount()).isEqualTo(2);
+        assertThat(ratingAggregates.getAverage()).isEqualTo(4.0);
+    }
+}
\ No newline at end of file
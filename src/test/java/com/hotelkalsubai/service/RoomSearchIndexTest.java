@@ -0,0 +1,54 @@
+package com.hotelkalsubai.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotelkalsubai.dto.room.RoomSearchResult;
+import com.hotelkalsubai.entity.Room;
+import com.hotelkalsubai.repository.RoomRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import(RoomSearchIndex.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RoomSearchIndexTest {
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private RoomSearchIndex roomSearchIndex;
+
+    @MockBean
+    private AvailabilityIndex availabilityIndex;
+
+    @AfterEach
+    void cleanUp() {
+        roomRepository.deleteAll();
+    }
+
+    @Test
+    void searchResultsSerializeAfterTheSessionIsClosed() throws Exception {
+        Room room = new Room("Valley View", "deluxe", "Balcony over the valley", new BigDecimal("4500.00"), 2);
+        room.setAmenities(List.of("WiFi", "Balcony"));
+        room.setImages(List.of("/images/valley-view.jpg"));
+        roomRepository.save(room);
+
+        roomSearchIndex.rebuild();
+        RoomSearchResult result = roomSearchIndex.search(null, 2, null, null, List.of("wifi"), null, null);
+
+        assertThat(result.getRooms()).hasSize(1);
+        String json = new ObjectMapper().writeValueAsString(result);
+        assertThat(json).contains("/images/valley-view.jpg").contains("Balcony");
+    }
+}
\ No newline at end of file
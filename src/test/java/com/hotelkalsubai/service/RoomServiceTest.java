@@ -0,0 +1,97 @@
+package com.hotelkalsubai.service;
+
+import com.hotelkalsubai.config.CacheConfig;
+import com.hotelkalsubai.entity.Room;
+import com.hotelkalsubai.repository.RoomRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig(RoomServiceTest.Config.class)
+class RoomServiceTest {
+
+    @Configuration
+    @EnableCaching
+    @Import(RoomService.class)
+    static class Config {
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager(CacheConfig.ROOMS);
+        }
+    }
+
+    @Autowired
+    private RoomService roomService;
+
+    @MockBean
+    private RoomRepository roomRepository;
+
+    @MockBean
+    private AvailabilityIndex availabilityIndex;
+
+    @MockBean
+    private ResponseSnapshots responseSnapshots;
+
+    @MockBean
+    private RoomCalendarService roomCalendarService;
+
+    @MockBean
+    private PricingEngine pricingEngine;
+
+    @MockBean
+    private OccupancyReportService occupancyReportService;
+
+    @MockBean
+    private RoomSearchIndex roomSearchIndex;
+
+    @Test
+    void availableRoomsForDatesAreServedWithoutTheRepository() {
+        when(roomRepository.findByIsAvailableTrue()).thenReturn(List.of(room(1L), room(2L)));
+        when(availabilityIndex.findOccupiedRoomIds(any(), any())).thenReturn(Optional.of(Set.of(1L)));
+        LocalDate checkIn = LocalDate.now().plusDays(3);
+
+        roomService.getAllAvailableRooms();
+        clearInvocations(roomRepository);
+
+        List<Room> rooms = roomService.getAvailableRooms(checkIn, checkIn.plusDays(2));
+
+        assertThat(rooms).extracting(Room::getId).containsExactly(2L);
+        verifyNoInteractions(roomRepository);
+    }
+
+    @Test
+    void savingARoomEvictsTheCachedRoomList() {
+        when(roomRepository.findByIsAvailableTrue()).thenReturn(List.of(room(1L)));
+        when(availabilityIndex.findOccupiedRoomIds(any(), any())).thenReturn(Optional.of(Set.of()));
+        LocalDate checkIn = LocalDate.now().plusDays(3);
+
+        roomService.getAvailableRooms(checkIn, checkIn.plusDays(2));
+        roomService.saveRoom(room(2L));
+        when(roomRepository.findByIsAvailableTrue()).thenReturn(List.of(room(1L), room(2L)));
+
+        assertThat(roomService.getAvailableRooms(checkIn, checkIn.plusDays(2))).hasSize(2);
+    }
+
+    private static Room room(Long id) {
+        Room room = new Room("Room " + id, "deluxe", null, new BigDecimal("3000.00"), 2);
+        room.setId(id);
+        return room;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.hotelkalsubai.service;
+
+import com.hotelkalsubai.dto.CursorPage;
+import com.hotelkalsubai.dto.admin.UserView;
+import com.hotelkalsubai.entity.User;
+import com.hotelkalsubai.security.TokenVersions;
+import com.hotelkalsubai.security.UserDetailsServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import(UserService.class)
+class UserServiceTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private TokenVersions tokenVersions;
+
+    @MockBean
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Test
+    void usersPageCarriesRolesButNoInternalColumns() {
+        for (int i = 1; i <= 3; i++) {
+            User user = new User("user" + i, "user" + i + "@example.com", "hash");
+            user.setRoles(i == 1 ? Set.of(User.Role.ROLE_ADMIN, User.Role.ROLE_USER) : Set.of(User.Role.ROLE_USER));
+            entityManager.persist(user);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        List<UserView> users = new ArrayList<>();
+        CursorPage<UserView> page = userService.getUsersPage(null, 2);
+        users.addAll(page.getItems());
+        users.addAll(userService.getUsersPage(page.getNextCursor(), 2).getItems());
+
+        assertThat(users).extracting(UserView::getUsername).containsExactlyInAnyOrder("user1", "user2", "user3");
+        assertThat(users).filteredOn(view -> view.getUsername().equals("user1")).singleElement()
+                .satisfies(view -> assertThat(view.getRoles()).containsExactlyInAnyOrder(User.Role.ROLE_ADMIN, User.Role.ROLE_USER));
+        assertThat(users).filteredOn(view -> view.getUsername().equals("user2")).singleElement()
+                .satisfies(view -> assertThat(view.getRoles()).containsExactly(User.Role.ROLE_USER));
+    }
+}
\ No newline at end of file